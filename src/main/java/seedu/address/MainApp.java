@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -17,7 +18,9 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.ModuleCache;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.TimeTableUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -27,7 +30,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -65,11 +71,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
+        initModuleCache(config);
+
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model);
@@ -105,6 +113,61 @@ public class MainApp extends Application {
         return model;
     }
 
+    /**
+     * Sets up the on-disk cache of NUSMods module information used by timetable downloads,
+     * seeding it from {@code config}'s module seed directory if there is one.
+     * Timetables are downloaded without caching if the cache cannot be opened, and the cache is used unseeded if
+     * the seed directory cannot be read.
+     */
+    private void initModuleCache(Config config) {
+        ModuleCache moduleCache;
+        try {
+            moduleCache = new ModuleCache(config.getModuleCacheDirectory(),
+                    Duration.ofHours(config.getModuleCacheTimeToLiveHours()), config.getModuleCacheMaxEntries(),
+                    config.isTimetableOffline());
+        } catch (IOException e) {
+            logger.warning("Failed to open module cache : " + StringUtil.getDetails(e));
+            return;
+        }
+        // installed before seeding, so an offline cache is never bypassed
+        TimeTableUtil.setModuleCache(moduleCache);
+
+        if (config.getModuleSeedDirectory() == null) {
+            return;
+        }
+        try {
+            moduleCache.preseed(config.getModuleSeedDirectory());
+        } catch (IOException e) {
+            logger.warning("Failed to seed module cache : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the storage of the address book in the primary format of {@code userPrefs}, after converting the
+     * data file of the other format into it if that file was saved later.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        Path xmlFilePath = userPrefs.getAddressBookFilePath();
+        // the binary file takes precedence over the shards
+        boolean isSharded = userPrefs.isAddressBookSharded() && !userPrefs.isAddressBookBinary();
+        try {
+            ShardedAddressBookStorage.convertToPrimaryFormat(xmlFilePath, isSharded);
+            BinaryAddressBookStorage.convertToPrimaryFormat(xmlFilePath, userPrefs.isAddressBookBinary());
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert the data file to the primary format : " + StringUtil.getDetails(e));
+        }
+
+        if (userPrefs.isAddressBookBinary()) {
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(xmlFilePath));
+        }
+        if (isSharded) {
+            return new ShardedAddressBookStorage(ShardedAddressBookStorage.getShardDirectory(xmlFilePath));
+        }
+        return userPrefs.isAddressBookJournaled()
+                ? new JournaledAddressBookStorage(xmlFilePath)
+                : new XmlAddressBookStorage(xmlFilePath);
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -197,6 +260,11 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         Platform.exit();
         System.exit(0);
     }
@@ -16,6 +16,11 @@ public class Config {
     private String appTitle = "EventOrganiser App";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path moduleCacheDirectory = Paths.get("data", "modules");
+    private long moduleCacheTimeToLiveHours = 24 * 7;
+    private int moduleCacheMaxEntries = 1000;
+    private boolean isTimetableOffline = false;
+    private Path moduleSeedDirectory = null;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +46,49 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getModuleCacheDirectory() {
+        return moduleCacheDirectory;
+    }
+
+    public void setModuleCacheDirectory(Path moduleCacheDirectory) {
+        this.moduleCacheDirectory = moduleCacheDirectory;
+    }
+
+    public long getModuleCacheTimeToLiveHours() {
+        return moduleCacheTimeToLiveHours;
+    }
+
+    public void setModuleCacheTimeToLiveHours(long moduleCacheTimeToLiveHours) {
+        this.moduleCacheTimeToLiveHours = moduleCacheTimeToLiveHours;
+    }
+
+    public int getModuleCacheMaxEntries() {
+        return moduleCacheMaxEntries;
+    }
+
+    public void setModuleCacheMaxEntries(int moduleCacheMaxEntries) {
+        this.moduleCacheMaxEntries = moduleCacheMaxEntries;
+    }
+
+    public boolean isTimetableOffline() {
+        return isTimetableOffline;
+    }
+
+    public void setTimetableOffline(boolean isTimetableOffline) {
+        this.isTimetableOffline = isTimetableOffline;
+    }
+
+    /**
+     * Returns the directory of module json to copy into the module cache on startup, or null if there is none
+     */
+    public Path getModuleSeedDirectory() {
+        return moduleSeedDirectory;
+    }
+
+    public void setModuleSeedDirectory(Path moduleSeedDirectory) {
+        this.moduleSeedDirectory = moduleSeedDirectory;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +102,18 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(moduleCacheDirectory, o.moduleCacheDirectory)
+                && moduleCacheTimeToLiveHours == o.moduleCacheTimeToLiveHours
+                && moduleCacheMaxEntries == o.moduleCacheMaxEntries
+                && isTimetableOffline == o.isTimetableOffline
+                && Objects.equals(moduleSeedDirectory, o.moduleSeedDirectory);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, moduleCacheDirectory, moduleCacheTimeToLiveHours,
+                moduleCacheMaxEntries, isTimetableOffline, moduleSeedDirectory);
     }
 
     @Override
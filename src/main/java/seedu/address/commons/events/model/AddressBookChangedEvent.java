@@ -1,17 +1,32 @@
 package seedu.address.commons.events.model;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /** Indicates the AddressBook in the model has changed*/
 public class AddressBookChangedEvent extends BaseEvent {
 
     public final ReadOnlyAddressBook data;
+    //@@author adjscent
+    public final AddressBookChanges changes;
 
+    //@@author
     public AddressBookChangedEvent(ReadOnlyAddressBook data) {
+        this(data, AddressBookChanges.ALL);
+    }
+
+    //@@author adjscent
+    /**
+     * Indicates that only {@code changes} differ from the address book of the previous event.
+     */
+    public AddressBookChangedEvent(ReadOnlyAddressBook data, AddressBookChanges changes) {
         this.data = data;
+        this.changes = changes;
     }
 
+    //@@author
+
     @Override
     public String toString() {
         return "number of persons "
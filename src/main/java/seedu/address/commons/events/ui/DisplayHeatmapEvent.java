@@ -0,0 +1,25 @@
+//@@author adjscent
+package seedu.address.commons.events.ui;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.person.AvailabilityHeatmap;
+
+/**
+ * Indicates that an availability heatmap should be shown in the browser panel.
+ */
+public class DisplayHeatmapEvent extends BaseEvent {
+
+    public final String title;
+    public final AvailabilityHeatmap heatmap;
+
+    public DisplayHeatmapEvent(String title, AvailabilityHeatmap heatmap) {
+        this.title = title;
+        this.heatmap = heatmap;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+}
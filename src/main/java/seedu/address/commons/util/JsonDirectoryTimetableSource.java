@@ -0,0 +1,34 @@
+//@@author adjscent
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads module information from a directory of module json files laid out like the module cache,
+ * e.g. {@code 2018-2019/1/CS2103.json}.
+ * @author adjscent
+ */
+public class JsonDirectoryTimetableSource implements TimetableSource {
+
+    private final Path directory;
+
+    public JsonDirectoryTimetableSource(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    @Override
+    public String getModuleJson(String acadYear, int semester, String moduleCode) throws IOException {
+        if (!ModuleCache.isValidKey(acadYear, String.valueOf(semester), moduleCode)) {
+            throw new IOException("Invalid module " + acadYear + "/" + semester + "/" + moduleCode);
+        }
+        Path file = directory.resolve(acadYear).resolve(String.valueOf(semester))
+                .resolve(moduleCode.toUpperCase() + ".json");
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,287 @@
+//@@author adjscent
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * On-disk cache of the NUSMods module json, keyed by academic year, semester and module code.
+ * Entry {@code (2018-2019, 1, CS2103)} is stored at {@code <cache directory>/2018-2019/1/CS2103.json}
+ * and is fresh for the time to live after it was written. Once the cache holds more than the maximum number
+ * of entries, the entries written longest ago are deleted.
+ * In offline mode every cached entry is served, however old it is.
+ * @author adjscent
+ */
+public class ModuleCache {
+
+    public static final String MODULE_CODE_VALIDATION_REGEX = "[A-Za-z0-9]+";
+    public static final String ACAD_YEAR_VALIDATION_REGEX = "\\d{4}-\\d{4}";
+
+    private static final String MODULE_FILE_EXTENSION = ".json";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(ModuleCache.class);
+
+    private final Path cacheDirectory;
+    private final Duration timeToLive;
+    private final int maxEntries;
+    private volatile boolean isOffline;
+
+    // cached files from the oldest written to the newest written
+    private final LinkedHashMap<Path, FileTime> entries = new LinkedHashMap<>();
+
+    /**
+     * Opens the cache in {@code cacheDirectory}, indexing the entries already there
+     * @param cacheDirectory
+     * @param timeToLive
+     * @param maxEntries
+     * @param isOffline
+     * @throws IOException if the existing entries cannot be read
+     */
+    public ModuleCache(Path cacheDirectory, Duration timeToLive, int maxEntries, boolean isOffline)
+            throws IOException {
+        requireNonNull(cacheDirectory);
+        requireNonNull(timeToLive);
+        assert maxEntries > 0;
+        this.cacheDirectory = cacheDirectory;
+        this.timeToLive = timeToLive;
+        this.maxEntries = maxEntries;
+        this.isOffline = isOffline;
+        loadEntries();
+    }
+
+    /**
+     * Indexes the entry files under the cache directory by the time they were written
+     * @throws IOException
+     */
+    private void loadEntries() throws IOException {
+        if (!Files.isDirectory(cacheDirectory)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(cacheDirectory, 3)) {
+            files = walk.filter(this::isEntryFile).collect(Collectors.toList());
+        }
+        List<Map.Entry<Path, FileTime>> found = new ArrayList<>();
+        for (Path file : files) {
+            found.add(Map.entry(file, Files.getLastModifiedTime(file)));
+        }
+        found.sort(Comparator.comparing(Map.Entry::getValue));
+        for (Map.Entry<Path, FileTime> entry : found) {
+            entries.put(entry.getKey(), entry.getValue());
+        }
+        evictExcess();
+    }
+
+    private boolean isEntryFile(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        Path relative = cacheDirectory.relativize(file);
+        return relative.getNameCount() == 3 && isValidKey(relative.getName(0).toString(),
+                relative.getName(1).toString(), stripExtension(relative.getName(2).toString()));
+    }
+
+    private static String stripExtension(String fileName) {
+        return fileName.endsWith(MODULE_FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - MODULE_FILE_EXTENSION.length())
+                : "";
+    }
+
+    /**
+     * Returns true if the key can name a cache entry
+     * @param acadYear
+     * @param semester
+     * @param moduleCode
+     * @return
+     */
+    public static boolean isValidKey(String acadYear, String semester, String moduleCode) {
+        return acadYear.matches(ACAD_YEAR_VALIDATION_REGEX) && semester.matches("\\d")
+                && moduleCode.matches(MODULE_CODE_VALIDATION_REGEX);
+    }
+
+    private Path resolve(String acadYear, int semester, String moduleCode) {
+        if (!isValidKey(acadYear, String.valueOf(semester), moduleCode)) {
+            throw new IllegalArgumentException("Invalid module cache key " + acadYear + "/" + semester
+                    + "/" + moduleCode);
+        }
+        return cacheDirectory.resolve(acadYear).resolve(String.valueOf(semester))
+                .resolve(moduleCode.toUpperCase() + MODULE_FILE_EXTENSION);
+    }
+
+    public Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public boolean isOffline() {
+        return isOffline;
+    }
+
+    public void setOffline(boolean isOffline) {
+        this.isOffline = isOffline;
+    }
+
+    /**
+     * Returns the number of cached entries
+     * @return
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the cached module json, or empty if it is missing or, unless offline, older than the time to live
+     * @param acadYear
+     * @param semester
+     * @param moduleCode
+     * @return
+     * @throws IOException if the cached entry cannot be read
+     */
+    public Optional<String> get(String acadYear, int semester, String moduleCode) throws IOException {
+        Path file = resolve(acadYear, semester, moduleCode);
+        FileTime writtenAt;
+        synchronized (this) {
+            writtenAt = entries.get(file);
+        }
+        if (writtenAt == null) {
+            return Optional.empty();
+        }
+        if (!isOffline && writtenAt.toMillis() + timeToLive.toMillis() < System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            synchronized (this) {
+                entries.remove(file);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stores the module json, replacing any older entry and evicting the oldest entries if the cache is full
+     * @param acadYear
+     * @param semester
+     * @param moduleCode
+     * @param json
+     * @throws IOException if the entry cannot be written
+     */
+    public void put(String acadYear, int semester, String moduleCode, String json) throws IOException {
+        requireNonNull(json);
+        store(resolve(acadYear, semester, moduleCode), json, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    /**
+     * Writes the entry file and records it as written at {@code writtenAt}
+     * @param file
+     * @param json
+     * @param writtenAt
+     * @throws IOException if the entry cannot be written
+     */
+    private void store(Path file, String json, FileTime writtenAt) throws IOException {
+        Files.createDirectories(file.getParent());
+        // written beside the entry and moved over it, so readers never see a partial file
+        Path temp = Files.createTempFile(file.getParent(), "module", TEMP_FILE_EXTENSION);
+        try {
+            Files.write(temp, json.getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        Files.setLastModifiedTime(file, writtenAt);
+        synchronized (this) {
+            entries.remove(file);
+            if (entries.values().stream().anyMatch(time -> time.compareTo(writtenAt) > 0)) {
+                // an entry written before others, such as a seeded one, keeps its place among them
+                List<Map.Entry<Path, FileTime>> sorted = new ArrayList<>();
+                entries.forEach((path, time) -> sorted.add(Map.entry(path, time)));
+                sorted.add(Map.entry(file, writtenAt));
+                sorted.sort(Comparator.comparing(Map.Entry::getValue));
+                entries.clear();
+                sorted.forEach(entry -> entries.put(entry.getKey(), entry.getValue()));
+            } else {
+                entries.put(file, writtenAt);
+            }
+            evictExcess();
+        }
+    }
+
+    /**
+     * Deletes the entries written longest ago until the cache is within its maximum size
+     */
+    private synchronized void evictExcess() {
+        Iterator<Path> oldest = entries.keySet().iterator();
+        while (entries.size() > maxEntries) {
+            Path file = oldest.next();
+            oldest.remove();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warning("Failed to evict cached module " + file + ": " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    /**
+     * Copies the module json files in {@code seedDirectory} into the cache.
+     * The seed directory is laid out like the cache, e.g. {@code 2018-2019/1/CS2103.json}, and other files are
+     * ignored. A seeded entry keeps the time its seed file was last modified, so it still ages out, and a cached
+     * entry written at or after that time is kept rather than replaced.
+     * @param seedDirectory
+     * @return the number of entries seeded
+     * @throws IOException if the seed directory cannot be read
+     */
+    public int preseed(Path seedDirectory) throws IOException {
+        requireNonNull(seedDirectory);
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(seedDirectory, 3)) {
+            files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        int seeded = 0;
+        for (Path file : files) {
+            Path relative = seedDirectory.relativize(file);
+            if (relative.getNameCount() != 3) {
+                continue;
+            }
+            String acadYear = relative.getName(0).toString();
+            String semester = relative.getName(1).toString();
+            String moduleCode = stripExtension(relative.getName(2).toString());
+            if (!isValidKey(acadYear, semester, moduleCode)) {
+                continue;
+            }
+            Path entry = resolve(acadYear, Integer.parseInt(semester), moduleCode);
+            FileTime seedTime = Files.getLastModifiedTime(file);
+            FileTime cachedTime;
+            synchronized (this) {
+                cachedTime = entries.get(entry);
+            }
+            if (cachedTime != null && cachedTime.compareTo(seedTime) >= 0) {
+                continue;
+            }
+            store(entry, new String(Files.readAllBytes(file), StandardCharsets.UTF_8), seedTime);
+            seeded++;
+        }
+        logger.info("Seeded " + seeded + " modules from " + seedDirectory);
+        return seeded;
+    }
+}
@@ -0,0 +1,55 @@
+//@@author adjscent
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Downloads module information from the NUSMods api, or from a server with the same url layout.
+ * @author adjscent
+ */
+public class NusModsTimetableSource implements TimetableSource {
+
+    public static final String NUSMODS_API_URL = "http://api.nusmods.com/";
+    // Timeouts in case no internet or nusmods is down
+    public static final int CONNECT_TIMEOUT_MILLIS = 3000;
+    public static final int READ_TIMEOUT_MILLIS = 3000;
+
+    private final String baseUrl;
+
+    public NusModsTimetableSource() {
+        this(NUSMODS_API_URL);
+    }
+
+    /**
+     * @param baseUrl the url the academic year is appended to, ending with a slash
+     */
+    public NusModsTimetableSource(String baseUrl) {
+        requireNonNull(baseUrl);
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public String getModuleJson(String acadYear, int semester, String moduleCode) throws IOException {
+        // Link format is correct as of 25/9/2018
+        String link = baseUrl + acadYear + "/" + semester + "/modules/" + moduleCode + ".json";
+        HttpURLConnection connection = (HttpURLConnection) new URL(link).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        try {
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Unexpected response " + connection.getResponseCode() + " from " + link);
+            }
+            try (InputStream in = connection.getInputStream()) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
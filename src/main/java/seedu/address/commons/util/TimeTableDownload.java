@@ -0,0 +1,68 @@
+//@@author adjscent
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.address.model.person.TimeTable;
+
+/**
+ * The outcome of downloading the modules of a NUSMods timetable.
+ * The timetable holds the lessons of every module that was downloaded, and each module that could not be
+ * downloaded is reported with the reason.
+ * @author adjscent
+ */
+public class TimeTableDownload {
+
+    private final TimeTable timeTable;
+    private final Map<String, String> moduleErrors;
+
+    public TimeTableDownload(TimeTable timeTable, Map<String, String> moduleErrors) {
+        requireNonNull(timeTable);
+        requireNonNull(moduleErrors);
+        this.timeTable = timeTable;
+        this.moduleErrors = Collections.unmodifiableMap(new LinkedHashMap<>(moduleErrors));
+    }
+
+    /**
+     * Returns the timetable of the modules that were downloaded
+     * @return
+     */
+    public TimeTable getTimeTable() {
+        return timeTable;
+    }
+
+    /**
+     * Returns the reason each module failed to download, keyed by module code in link order
+     * @return
+     */
+    public Map<String, String> getModuleErrors() {
+        return moduleErrors;
+    }
+
+    /**
+     * Returns true if every module was downloaded
+     * @return
+     */
+    public boolean isComplete() {
+        return moduleErrors.isEmpty();
+    }
+
+    /**
+     * Returns one line per failed module, e.g. "CS2103: Cannot retrieve NUSMODS module information"
+     * @return
+     */
+    public String getErrorMessage() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> error : moduleErrors.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append("\n");
+            }
+            sb.append(error.getKey()).append(": ").append(error.getValue());
+        }
+        return sb.toString();
+    }
+}
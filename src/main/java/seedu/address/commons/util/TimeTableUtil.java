@@ -1,16 +1,34 @@
-// @@author adjscent
+//@@author adjscent
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -41,6 +59,15 @@ public class TimeTableUtil {
     // Messages
     public static final String INVALID_URL = "Invalid NUSMODS URL";
     public static final String API_CALL_FAILURE = "Cannot retrieve NUSMODS module information";
+    public static final String MODULE_NOT_CACHED = "Module %1$s is not available offline";
+    public static final String SHORT_URL_OFFLINE = "Short links cannot be opened offline, "
+        + "use the full NUSMODS timetable link";
+    public static final String DOWNLOAD_TIMEOUT = "Timed out retrieving NUSMODS module information";
+
+    public static final long DOWNLOAD_DEADLINE_MILLIS = 10000;
+    // Modules of a timetable downloaded side by side
+    private static final int MAX_CONCURRENT_DOWNLOADS = 4;
+    private static final String NUSMODS_TIMETABLE_HOST = "nusmods.com/timetable/";
     // URL indexs for nusmods
     private static final int SEMSTER_INDEX = 4;
     private static final int MODULE_INDEX = 5;
@@ -54,8 +81,22 @@ public class TimeTableUtil {
     private static final String REGEX_GET_SEPARATER = "\\?";
     private static final String REGEX_MODULE_SEPARATER = "&";
 
+    private static final String FIELD_TIMETABLE = "Timetable";
+
     private static final Logger logger = LogsCenter.getLogger(TimeTableUtil.class);
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final ExecutorService DOWNLOAD_EXECUTOR = Executors.newFixedThreadPool(MAX_CONCURRENT_DOWNLOADS,
+        runnable -> {
+            Thread thread = new Thread(runnable, "nusmods-download");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private static volatile ModuleCache moduleCache;
+    private static volatile TimetableSource timetableSource = new NusModsTimetableSource();
+
     /**
      * Parse links from the share command of Nusmods
      * @param url
@@ -63,23 +104,28 @@ public class TimeTableUtil {
      * @throws ParseException if the url link is invalid
      */
     public static TimeTable parseUrl(String url) throws ParseException {
-        return parseLongUrl(parseShortUrl(url));
+        return parseLongUrl(isLongUrl(url) ? url : parseShortUrl(url));
     }
 
     /**
      * Part of parse link
      * @param urlString
      * @return Timetable
-     * @throws ParseException
+     * @throws ParseException if the link cannot be resolved, which it never is when the module cache is offline
      */
     public static String parseShortUrl(String urlString) throws ParseException {
         logger.info("NusMods TimeTable shortlink: " + urlString);
+        ModuleCache cache = moduleCache;
+        if (cache != null && cache.isOffline()) {
+            throw new ParseException(SHORT_URL_OFFLINE);
+        }
         try {
             URL url = new URL(urlString);
             HttpURLConnection httpUrlConnection = (HttpURLConnection) url.openConnection();
 
             // 3 sec timeout in case no internet or nusmods is down
-            httpUrlConnection.setReadTimeout(3000);
+            httpUrlConnection.setConnectTimeout(NusModsTimetableSource.CONNECT_TIMEOUT_MILLIS);
+            httpUrlConnection.setReadTimeout(NusModsTimetableSource.READ_TIMEOUT_MILLIS);
 
             // Get the redirected link
             String longUrlString = httpUrlConnection.getHeaderField("Location");
@@ -112,38 +158,178 @@ public class TimeTableUtil {
      * Breaks down the long url into sections
      * @param urlString
      * @return Timetable
-     * @throws ParseException
+     * @throws ParseException if any module cannot be downloaded
      */
     public static TimeTable parseLongUrl(String urlString) throws ParseException {
+        TimeTableDownload download = downloadLongUrl(urlString, DOWNLOAD_DEADLINE_MILLIS);
+        if (!download.isComplete()) {
+            throw new ParseException(API_CALL_FAILURE + "\n" + download.getErrorMessage());
+        }
+        return download.getTimeTable();
+    }
 
+    /**
+     * Downloads the modules of a long url concurrently, giving up on those not downloaded within the deadline.
+     * The timetable of the modules that were downloaded is returned along with the error of each module that was not.
+     * @param urlString
+     * @param deadlineMillis
+     * @return
+     */
+    public static TimeTableDownload downloadLongUrl(String urlString, long deadlineMillis) {
         logger.info("NusMods TimeTable longlink: " + urlString);
+        TimeTableDownload download = downloadAll(Collections.singletonMap(urlString, urlString), deadlineMillis)
+            .get(urlString);
+        if (download.isComplete()) {
+            logger.info("NusMods TimeTable download is successful.");
+        } else {
+            logger.warning("NusMods TimeTable download is incomplete.\n" + download.getErrorMessage());
+        }
+        return download;
+    }
 
-        // variables
-        ArrayList<Lesson> lessonList = new ArrayList<>();
-
-        // split url into /../../../
-        String[] parts = urlString.split(REGEX_SLASH);
-        assert (parts.length == 6);
+    /**
+     * Downloads the timetables of many share links at once, giving up on what is not downloaded within the deadline.
+     * Short links are resolved side by side, and then every distinct module of the links is downloaded once,
+     * side by side, and shared by all the timetables that take it.
+     * A link that cannot be resolved or read is reported as the error of its timetable.
+     * @param linksByKey short or long share links keyed by, e.g., the name of the user they belong to
+     * @param deadlineMillis
+     * @return the timetable download of each key, in the order of {@code linksByKey}
+     */
+    public static Map<String, TimeTableDownload> downloadAll(Map<String, String> linksByKey, long deadlineMillis) {
+        long deadline = System.currentTimeMillis() + deadlineMillis;
+
+        // Resolve the short links side by side
+        HashMap<String, String> longUrls = new HashMap<>();
+        HashMap<String, String> linkErrors = new HashMap<>();
+        List<String> shortLinkKeys = new ArrayList<>();
+        List<Callable<String>> resolveTasks = new ArrayList<>();
+        for (Map.Entry<String, String> entry : linksByKey.entrySet()) {
+            if (isLongUrl(entry.getValue())) {
+                longUrls.put(entry.getKey(), entry.getValue());
+            } else {
+                shortLinkKeys.add(entry.getKey());
+                resolveTasks.add(() -> parseShortUrl(entry.getValue()));
+            }
+        }
+        List<Future<String>> resolved = runAll(resolveTasks, deadline);
+        for (int i = 0; i < shortLinkKeys.size(); i++) {
+            try {
+                longUrls.put(shortLinkKeys.get(i), getResult(resolved.get(i)));
+            } catch (ParseException e) {
+                linkErrors.put(shortLinkKeys.get(i), e.getMessage());
+            }
+        }
 
-        String semster = parts[SEMSTER_INDEX];
+        // Break every long url down, and download each distinct module once
+        HashMap<String, Integer> semesters = new HashMap<>();
+        HashMap<String, String[]> moduleSelections = new HashMap<>();
+        // the slots chosen by any of the links, so the other lessons are dropped while parsing
+        LinkedHashMap<String, Set<String>> moduleSlots = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : longUrls.entrySet()) {
+            String[] parts = entry.getValue().split(REGEX_SLASH);
+            String[] semesterParts = parts.length == 6 ? parts[SEMSTER_INDEX].split(REGEX_DASH) : new String[0];
+            if (semesterParts.length != 2 || !semesterParts[1].matches("\\d")) {
+                linkErrors.put(entry.getKey(), INVALID_URL);
+                continue;
+            }
+            int semesterNumber = Integer.parseInt(semesterParts[1]);
+
+            // get each modules from url and remove share?
+            String[] share = parts[MODULE_INDEX].split(REGEX_GET_SEPARATER);
+            String[] modules = share.length < 2 ? new String[0] : share[1].split(REGEX_MODULE_SEPARATER);
+            semesters.put(entry.getKey(), semesterNumber);
+            moduleSelections.put(entry.getKey(), modules);
+            for (String module : modules) {
+                Set<String> slots = moduleSlots.computeIfAbsent(semesterNumber + REGEX_SLASH
+                    + module.split(REGEX_EQUAL)[0], unused -> new HashSet<>());
+                try {
+                    slots.addAll(toSlotSet(module));
+                } catch (ParseException e) {
+                    // reported when the lessons of the link are selected
+                }
+            }
+        }
+        List<String> moduleKeys = new ArrayList<>(moduleSlots.keySet());
+        List<Callable<ArrayList<Lesson>>> moduleTasks = new ArrayList<>();
+        for (String moduleKey : moduleKeys) {
+            int semesterNumber = Integer.parseInt(moduleKey.split(REGEX_SLASH)[0]);
+            String moduleCode = moduleKey.split(REGEX_SLASH)[1];
+            Set<String> slots = moduleSlots.get(moduleKey);
+            moduleTasks.add(() -> obtainModuleInfoFromApi(moduleCode, semesterNumber, slots));
+        }
+        List<Future<ArrayList<Lesson>>> moduleResults = runAll(moduleTasks, deadline);
+        HashMap<String, Future<ArrayList<Lesson>>> modules = new HashMap<>();
+        for (int i = 0; i < moduleKeys.size(); i++) {
+            modules.put(moduleKeys.get(i), moduleResults.get(i));
+        }
 
-        // get each modules from url and remove share?
-        String[] share = parts[MODULE_INDEX].split(REGEX_GET_SEPARATER);
-        if (share.length < 2) {
-            TimeTable timetable = new TimeTable(lessonList);
-            return timetable;
+        // Select the lessons of each timetable from its modules
+        LinkedHashMap<String, TimeTableDownload> downloads = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : linksByKey.entrySet()) {
+            String key = entry.getKey();
+            ArrayList<Lesson> lessonList = new ArrayList<>();
+            LinkedHashMap<String, String> moduleErrors = new LinkedHashMap<>();
+            if (linkErrors.containsKey(key)) {
+                moduleErrors.put(entry.getValue(), linkErrors.get(key));
+            } else {
+                for (String module : moduleSelections.get(key)) {
+                    String moduleCode = module.split(REGEX_EQUAL)[0];
+                    try {
+                        lessonList.addAll(selectLessons(module,
+                            getResult(modules.get(semesters.get(key) + REGEX_SLASH + moduleCode))));
+                    } catch (ParseException e) {
+                        moduleErrors.put(moduleCode, e.getMessage());
+                    }
+                }
+            }
+            downloads.put(key, new TimeTableDownload(new TimeTable(lessonList), moduleErrors));
         }
-        String[] modules = share[1].split(REGEX_MODULE_SEPARATER);
+        return downloads;
+    }
 
-        // Get all of the (limited) module information via api call
-        for (String module : modules) {
-            ArrayList<Lesson> newlist = parseModule(module, semster);
-            lessonList.addAll(newlist);
+    /**
+     * Returns true if the url is a long share link of nusmods rather than a short link to one
+     */
+    private static boolean isLongUrl(String url) {
+        return url.contains(NUSMODS_TIMETABLE_HOST);
+    }
+
+    /**
+     * Runs the tasks on the download threads, cancelling those not done by the deadline
+     */
+    private static <T> List<Future<T>> runAll(List<Callable<T>> tasks, long deadline) {
+        try {
+            return DOWNLOAD_EXECUTOR.invokeAll(tasks, Math.max(0, deadline - System.currentTimeMillis()),
+                TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            List<Future<T>> cancelled = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                FutureTask<T> future = new FutureTask<>(task);
+                future.cancel(false);
+                cancelled.add(future);
+            }
+            return cancelled;
         }
+    }
 
-        TimeTable timetable = new TimeTable(lessonList);
-        logger.info("NusMods TimeTable download is successful.");
-        return timetable;
+    /**
+     * Returns the result of a finished or cancelled download task
+     * @throws ParseException with the reason the task failed
+     */
+    private static <T> T getResult(Future<T> future) throws ParseException {
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+            throw new ParseException(DOWNLOAD_TIMEOUT);
+        } catch (ExecutionException e) {
+            throw new ParseException(e.getCause() instanceof ParseException
+                ? e.getCause().getMessage() : API_CALL_FAILURE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParseException(API_CALL_FAILURE);
+        }
     }
 
     /**
@@ -156,23 +342,24 @@ public class TimeTableUtil {
     public static ArrayList<Lesson> parseModule(String module, String semster) throws ParseException {
 
         // split CS2103=LEC
-        String[] moduleInfo = module.split(REGEX_EQUAL);
-        String moduleCode = moduleInfo[0]; // CS2103
-
-        // So that it is easier to select our own module slots when looking through the full list
-        String[] moduleChosenSlotList = moduleInfo[1].split(REGEX_COMMA);
-
-        HashMap<String, String> moduleChosenSlotMap = new HashMap<>();
-        for (String moduleChosenSlot : moduleChosenSlotList) {
-            String[] temp = moduleChosenSlot.split(REGEX_COLON);
-            moduleChosenSlotMap.put(temp[0], temp[1]);
-        }
+        String moduleCode = module.split(REGEX_EQUAL)[0]; // CS2103
 
         assert (semster.split(REGEX_DASH).length == 2);
         // Get Semester number
         int semsterNumber = Integer.parseInt(semster.split(REGEX_DASH)[1]);
 
-        ArrayList<Lesson> lessonList = obtainModuleInfoFromApi(moduleCode, semsterNumber);
+        return selectLessons(module, obtainModuleInfoFromApi(moduleCode, semsterNumber, toSlotSet(module)));
+    }
+
+    /**
+     * Selects the lessons of the chosen slots, e.g. CS2103=LEC:1,TUT:01, from all the lessons of the module
+     * @param module
+     * @param lessonList
+     * @return ArrayList
+     * @throws ParseException if the chosen slots are malformed
+     */
+    public static ArrayList<Lesson> selectLessons(String module, List<Lesson> lessonList) throws ParseException {
+        HashMap<String, String> moduleChosenSlotMap = getChosenSlots(module);
 
         ArrayList<Lesson> toBeAddedLessonList = new ArrayList<>();
 
@@ -180,7 +367,7 @@ public class TimeTableUtil {
         // We will need to select the ones that are relevant to us
         for (Lesson lesson : lessonList) {
             // Need to change Lecture to LEC, Tutorial to TUT... before using the hashmap
-            String moduleSlotNum = moduleChosenSlotMap.get(lesson.getLessonType().substring(0, 3).toUpperCase());
+            String moduleSlotNum = moduleChosenSlotMap.get(toSlotType(lesson.getLessonType()));
 
             if (moduleSlotNum != null && moduleSlotNum.equals(lesson.getClassNo())) {
                 toBeAddedLessonList.add(lesson);
@@ -190,6 +377,55 @@ public class TimeTableUtil {
     }
 
 
+    /**
+     * Returns the chosen class number of each lesson type, e.g. CS2103=LEC:1,TUT:01 gives LEC to 1 and TUT to 01
+     * @param module
+     * @return
+     * @throws ParseException if the chosen slots are malformed
+     */
+    private static HashMap<String, String> getChosenSlots(String module) throws ParseException {
+        HashMap<String, String> moduleChosenSlotMap = new HashMap<>();
+        try {
+            // So that it is easier to select our own module slots when looking through the full list
+            String[] moduleChosenSlotList = module.split(REGEX_EQUAL)[1].split(REGEX_COMMA);
+            for (String moduleChosenSlot : moduleChosenSlotList) {
+                String[] temp = moduleChosenSlot.split(REGEX_COLON);
+                moduleChosenSlotMap.put(temp[0], temp[1]);
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new ParseException(INVALID_URL);
+        }
+        return moduleChosenSlotMap;
+    }
+
+    /**
+     * Returns the chosen slots of the module written like LEC:1
+     * @throws ParseException if the chosen slots are malformed
+     */
+    private static Set<String> toSlotSet(String module) throws ParseException {
+        HashSet<String> slots = new HashSet<>();
+        for (Map.Entry<String, String> slot : getChosenSlots(module).entrySet()) {
+            slots.add(slot.getKey() + REGEX_COLON + slot.getValue());
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the lesson type as written in share links, e.g. Lecture as LEC
+     */
+    private static String toSlotType(String lessonType) {
+        return lessonType.length() < 3 ? lessonType.toUpperCase() : lessonType.substring(0, 3).toUpperCase();
+    }
+
+    /**
+     * Serves the module json from {@code moduleCache} when it holds a fresh entry,
+     * or only from {@code moduleCache} when it is offline
+     * @param moduleCache the cache to use, or null to always download
+     */
+    public static void setModuleCache(ModuleCache moduleCache) {
+        TimeTableUtil.moduleCache = moduleCache;
+    }
+
     /**
      * API call for nusmods
      *
@@ -199,6 +435,20 @@ public class TimeTableUtil {
      * @throws ParseException
      */
     public static ArrayList<Lesson> obtainModuleInfoFromApi(String moduleCode, int semNum) throws ParseException {
+        return obtainModuleInfoFromApi(moduleCode, semNum, null);
+    }
+
+    /**
+     * API call for nusmods, keeping only the lessons of the chosen slots
+     *
+     * @param moduleCode
+     * @param semNum
+     * @param chosenSlots slots written like LEC:1, or null to keep every lesson
+     * @return
+     * @throws ParseException
+     */
+    public static ArrayList<Lesson> obtainModuleInfoFromApi(String moduleCode, int semNum, Set<String> chosenSlots)
+            throws ParseException {
 
         LocalDate currentDate = LocalDate.now();
 
@@ -213,30 +463,147 @@ public class TimeTableUtil {
         //    acadYear = currentDate.getYear() + "-" + (currentDate.getYear() + 1);
         //}
 
-        // Link format is correct as of 25/9/2018
-        String link = "http://api.nusmods.com/" + acadYear + "/" + semNum + "/modules/" + moduleCode + ".json";
-        ObjectMapper mapper = new ObjectMapper();
+        if (!ModuleCache.isValidKey(acadYear, String.valueOf(semNum), moduleCode)) {
+            throw new ParseException(API_CALL_FAILURE);
+        }
 
         try {
-            // Grab lesson info from API and store as a map
-            URL url = new URL(link);
-            @SuppressWarnings("unchecked")
-            Map<String, Object> mappedJson = mapper.readValue(url, HashMap.class);
-            @SuppressWarnings("unchecked")
-            ArrayList<HashMap<String, String>> lessonInfo = (ArrayList<HashMap<String, String>>)
-                mappedJson.get("Timetable");
-
-            // Parse the information from API and creates an Arraylist of all possible lessons
-            ArrayList<Lesson> lessons = new ArrayList<>();
-            for (HashMap<String, String> lesson : lessonInfo) {
-                Lesson lessonToAdd = new Lesson(moduleCode, lesson.get("ClassNo"), lesson.get("LessonType"),
-                    lesson.get("WeekText"), lesson.get("DayText"), lesson.get("StartTime"), lesson.get("EndTime"));
-                lessons.add(lessonToAdd);
+            // Grab lesson info from the cache or API
+            return parseModuleJson(moduleCode, obtainModuleJson(acadYear, moduleCode, semNum), chosenSlots);
+        } catch (IOException exception) {
+            throw new ParseException(API_CALL_FAILURE);
+        }
+    }
+
+    /**
+     * Streams the lessons out of the "Timetable" array of the module json, skipping every other field
+     * and every lesson that is not of a chosen slot
+     *
+     * @param moduleCode
+     * @param json
+     * @param chosenSlots slots written like LEC:1, or null to keep every lesson
+     * @return
+     * @throws IOException if the json is malformed
+     * @throws ParseException if the json has no timetable or a lesson is missing a field
+     */
+    static ArrayList<Lesson> parseModuleJson(String moduleCode, String json, Set<String> chosenSlots)
+            throws IOException, ParseException {
+        ArrayList<Lesson> lessons = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ParseException(API_CALL_FAILURE);
             }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (FIELD_TIMETABLE.equals(field) && value == JsonToken.START_ARRAY) {
+                    lessons = new ArrayList<>();
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        Lesson lesson = parseLesson(moduleCode, parser, chosenSlots);
+                        if (lesson != null) {
+                            lessons.add(lesson);
+                        }
+                    }
+                } else {
+                    // descriptions, prerequisites, exam dates...
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (lessons == null) {
+            throw new ParseException(API_CALL_FAILURE);
+        }
+        return lessons;
+    }
 
-            return lessons;
-        } catch (IOException exception) {
+    /**
+     * Reads the lesson object the parser is at, returning null if it is not of a chosen slot
+     */
+    private static Lesson parseLesson(String moduleCode, JsonParser parser, Set<String> chosenSlots)
+            throws IOException, ParseException {
+        String classNo = null;
+        String lessonType = null;
+        String weekText = null;
+        String dayText = null;
+        String startTime = null;
+        String endTime = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "ClassNo":
+                classNo = parser.getValueAsString();
+                break;
+            case "LessonType":
+                lessonType = parser.getValueAsString();
+                break;
+            case "WeekText":
+                weekText = parser.getValueAsString();
+                break;
+            case "DayText":
+                dayText = parser.getValueAsString();
+                break;
+            case "StartTime":
+                startTime = parser.getValueAsString();
+                break;
+            case "EndTime":
+                endTime = parser.getValueAsString();
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        if (classNo == null || lessonType == null || startTime == null || endTime == null) {
             throw new ParseException(API_CALL_FAILURE);
         }
+        if (chosenSlots != null && !chosenSlots.contains(toSlotType(lessonType) + REGEX_COLON + classNo)) {
+            return null;
+        }
+        return new Lesson(moduleCode, classNo, lessonType, weekText, dayText, startTime, endTime);
+    }
+
+    /**
+     * Returns the module json from the cache, downloading and caching it if the cache has no fresh copy
+     *
+     * @param acadYear
+     * @param moduleCode
+     * @param semNum
+     * @return
+     * @throws IOException
+     * @throws ParseException if the cache is offline and does not have the module
+     */
+    private static String obtainModuleJson(String acadYear, String moduleCode, int semNum)
+            throws IOException, ParseException {
+        ModuleCache cache = moduleCache;
+        if (cache == null) {
+            return timetableSource.getModuleJson(acadYear, semNum, moduleCode);
+        }
+
+        Optional<String> cached = cache.get(acadYear, semNum, moduleCode);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        if (cache.isOffline()) {
+            logger.info("Module " + moduleCode + " is not cached for offline use");
+            throw new ParseException(String.format(MODULE_NOT_CACHED, moduleCode));
+        }
+
+        String json = timetableSource.getModuleJson(acadYear, semNum, moduleCode);
+        try {
+            cache.put(acadYear, semNum, moduleCode, json);
+        } catch (IOException e) {
+            logger.warning("Failed to cache module " + moduleCode + ": " + StringUtil.getDetails(e));
+        }
+        return json;
+    }
+
+    /**
+     * Retrieves module information that is not cached from {@code timetableSource}
+     * @param timetableSource
+     */
+    public static void setTimetableSource(TimetableSource timetableSource) {
+        requireNonNull(timetableSource);
+        TimeTableUtil.timetableSource = timetableSource;
     }
 }
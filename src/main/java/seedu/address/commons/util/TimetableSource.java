@@ -0,0 +1,21 @@
+//@@author adjscent
+package seedu.address.commons.util;
+
+import java.io.IOException;
+
+/**
+ * A source of NUSMods module information, in the json format of the NUSMods api.
+ * @author adjscent
+ */
+public interface TimetableSource {
+
+    /**
+     * Returns the module json of {@code moduleCode} in the semester of the academic year, e.g. 2018-2019
+     * @param acadYear
+     * @param semester
+     * @param moduleCode
+     * @return
+     * @throws IOException if the module cannot be retrieved
+     */
+    String getModuleJson(String acadYear, int semester, String moduleCode) throws IOException;
+}
@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -16,6 +18,18 @@ import javax.xml.bind.Unmarshaller;
  */
 public class XmlUtil {
 
+    // creating a context is slow, and contexts are thread safe
+    private static final Map<Class<?>, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = CONTEXTS.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            CONTEXTS.put(type, context);
+        }
+        return context;
+    }
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,7 +51,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
+        JAXBContext context = getContext(classToConvert);
         Unmarshaller um = context.createUnmarshaller();
 
         return ((T) um.unmarshal(file.toFile()));
@@ -61,7 +75,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
+        JAXBContext context = getContext(data.getClass());
         Marshaller m = context.createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
@@ -0,0 +1,104 @@
+//@@author adjscent
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.events.ui.DisplayHeatmapEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.NoEventSelectedException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.AvailabilityHeatmap;
+import seedu.address.model.person.Person;
+
+/**
+ * Heat Schedule Command where the schedules of a group of persons are counted per slot,
+ * to find the times when at least a given number of them are free.
+ *
+ * @author adjscent
+ */
+public class HeatScheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "heatSchedule";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Find the times when at least MIN_FREE users "
+        + "are free. Without indexes, the participants of the selected event are used. "
+        + "Parameters: "
+        + "[1 2 3 4 5 ...] [mf/ MIN_FREE]";
+    public static final String MESSAGE_SUCCESS = "Free time for at least %1$d of %2$d persons: %3$s";
+    public static final String MESSAGE_PERSON_DOES_NOT_EXIST = "This person does not exist in the address book";
+    public static final String MESSAGE_INVALID_MIN_FREE = "MIN_FREE cannot be more than the number of persons";
+    public static final String HEATMAP_TITLE = "%1$d persons compared";
+
+    private static final Logger logger = LogsCenter.getLogger(HeatScheduleCommand.class);
+
+    private Index[] indexs;
+    private Integer minFree;
+
+    /**
+     * Creates a HeatScheduleCommand over the persons at {@code indexs}, or over the selected event if empty.
+     * A null {@code minFree} means every person has to be free.
+     */
+    public HeatScheduleCommand(Index[] indexs, Integer minFree) {
+        requireNonNull(indexs);
+        this.indexs = indexs;
+        this.minFree = minFree;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        Iterable<Person> persons;
+        if (indexs.length == 0) {
+            try {
+                Event event = model.getSelectedEvent();
+                persons = event.getParticipantList();
+            } catch (NoEventSelectedException e) {
+                throw new CommandException(Messages.MESSAGE_NO_EVENT_SELECTED);
+            }
+        } else {
+            ArrayList<Person> personList = new ArrayList<>();
+            try {
+                for (Index index : indexs) {
+                    personList.add(model.getPerson(index));
+                }
+            } catch (IndexOutOfBoundsException e) {
+                logger.warning("HeatSchedule has compared an invalid index");
+                throw new CommandException(MESSAGE_PERSON_DOES_NOT_EXIST);
+            }
+            persons = personList;
+        }
+
+        AvailabilityHeatmap heatmap = new AvailabilityHeatmap(persons);
+        int required = minFree == null ? heatmap.getPersonCount() : minFree;
+        if (required > heatmap.getPersonCount()) {
+            throw new CommandException(MESSAGE_INVALID_MIN_FREE);
+        }
+
+        String text = heatmap.getScheduleWithMinFree(required).freeTimeToString();
+        EventsCenter.getInstance().post(new DisplayHeatmapEvent(
+            String.format(HEATMAP_TITLE, heatmap.getPersonCount()), heatmap));
+
+        logger.info("HeatSchedule has compared " + heatmap.getPersonCount() + " schedules.");
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, required, heatmap.getPersonCount(), text));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof HeatScheduleCommand // instanceof handles nulls
+            && Arrays.deepEquals(indexs, ((HeatScheduleCommand) other).indexs)
+            && Objects.equals(minFree, ((HeatScheduleCommand) other).minFree));
+    }
+}
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -26,47 +27,64 @@ public class MaxScheduleCommand extends Command {
     public static final String COMMAND_WORD = "maxSchedule";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Find free time between several users. "
         + "Parameters: "
-        + "1 2 3 4 5 ... [sl/ 0800-0900]";
+        + "1 2 3 4 5 ... [sl/ 0800-0900] [md/ MIN_DURATION_IN_MINUTES]";
     public static final String MESSAGE_SUCCESS = "Free time found: %1$s!";
     public static final String MESSAGE_PERSON_DOES_NOT_EXIST = "This person does not exist in the address book";
 
+    // a free block never runs past the end of its day
+    public static final int MAX_MIN_DURATION = 24 * 60;
+
+    private static final int SLOT_MINUTES = 30;
+
     private static final Logger logger = LogsCenter.getLogger(MaxScheduleCommand.class);
 
     private Index[] indexs;
     private Schedule schedule;
     private String limit;
+    private Integer minDuration;
 
     /**
      * Creates an LoginCommand to log in the specified {@code CurrentUser}
      */
     public MaxScheduleCommand(Index[] indexs, String limit) {
+        this(indexs, limit, null);
+    }
+
+    /**
+     * Creates a MaxScheduleCommand that only returns free blocks lasting at least {@code minDuration} minutes.
+     * A null {@code minDuration} returns every free slot.
+     */
+    public MaxScheduleCommand(Index[] indexs, String limit, Integer minDuration) {
         requireNonNull(indexs);
+        assert minDuration == null || (minDuration > 0 && minDuration <= MAX_MIN_DURATION);
         this.indexs = indexs;
         this.limit = limit;
+        this.minDuration = minDuration;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        schedule = new Schedule();
-        ArrayList<Person> persons = new ArrayList<>();
+        ArrayList<Schedule> schedules = new ArrayList<>(indexs.length);
         String text = "";
 
         try {
             for (Index index : indexs) {
                 Person person = model.getPerson(index);
-                persons.add(person);
-                schedule = Schedule.maxSchedule(schedule, person.getSchedule());
-                if (limit != null) {
-                    String[] limitRange = limit.split("-");
-                    Time startTime = new Time(limitRange[0]);
-                    Time endTime = new Time(limitRange[1]);
-                    text = schedule.freeTimeToStringByTime(startTime, endTime);
-                } else {
-                    text = schedule.freeTimeToString();
-                }
+                schedules.add(person.getSchedule());
+            }
+            schedule = Schedule.maxSchedule(schedules);
 
+            if (minDuration != null) {
+                text = freeBlocksToString();
+            } else if (limit != null) {
+                String[] limitRange = limit.split("-");
+                Time startTime = new Time(limitRange[0]);
+                Time endTime = new Time(limitRange[1]);
+                text = schedule.freeTimeToStringByTime(startTime, endTime);
+            } else {
+                text = schedule.freeTimeToString();
             }
         } catch (Exception e) {
             logger.warning("MaxSchedule has compared an invalid index");
@@ -78,10 +96,45 @@ public class MaxScheduleCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, text));
     }
 
+    /**
+     * Returns the free blocks of at least minDuration minutes made of the slots the limit includes, if any.
+     * As without a minimum duration, the limit includes the slots starting from its start to its end inclusive.
+     *
+     * @return
+     */
+    private String freeBlocksToString() {
+        int minSlots = toSlotBoundary(minDuration);
+        int windowStart = 0;
+        int windowEnd = Schedule.HOUR;
+        if (limit != null) {
+            String[] limitRange = limit.split("-");
+            windowStart = toSlotBoundary(toMinutes(limitRange[0]));
+            // past the last slot starting at or before the end
+            windowEnd = toMinutes(limitRange[1]) / SLOT_MINUTES + 1;
+        }
+        return schedule.freeBlocksToString(minSlots, windowStart, Math.min(windowEnd, Schedule.HOUR));
+    }
+
+    /**
+     * Converts a 4 digit time into minutes from midnight
+     */
+    private static int toMinutes(String time) {
+        int value = Integer.parseInt(time);
+        return value / 100 * 60 + value % 100;
+    }
+
+    /**
+     * Rounds minutes up to the next 30 minute slot boundary
+     */
+    private static int toSlotBoundary(int minutes) {
+        return (minutes + SLOT_MINUTES - 1) / SLOT_MINUTES;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof MaxScheduleCommand)
-            && Arrays.deepEquals(indexs, ((MaxScheduleCommand) other).indexs); // instanceof handles nulls
+            && Arrays.deepEquals(indexs, ((MaxScheduleCommand) other).indexs) // instanceof handles nulls
+            && Objects.equals(minDuration, ((MaxScheduleCommand) other).minDuration);
     }
 }
@@ -0,0 +1,135 @@
+//@@author adjscent
+package seedu.address.logic.commands.eventcommands;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CREATE_POLL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_START;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARTICIPANT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP_K;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.events.ui.DisplayPollEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.NoEventSelectedException;
+import seedu.address.logic.commands.exceptions.NoUserLoggedInException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.MeetingTime;
+import seedu.address.model.event.MeetingTimeSolver;
+import seedu.address.model.event.exceptions.NotEventOrganiserException;
+import seedu.address.model.person.Name;
+
+/**
+ * Command to find the best start times for the pre-selected event, optionally creating a time poll from them.
+ */
+public class FindMeetingTimeCommand extends Command {
+
+    public static final String COMMAND_WORD = "findMeetingTime";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the best start times for the pre-selected "
+            + "event, weighing the organiser and required participants higher.\n"
+            + "Parameters: "
+            + PREFIX_DATE_START + "FIRST_DATE "
+            + PREFIX_DATE_END + "LAST_DATE "
+            + PREFIX_MIN_DURATION + "DURATION_IN_MINUTES "
+            + "[" + PREFIX_TOP_K + "NUMBER_OF_TIMES] "
+            + "[" + PREFIX_PARTICIPANT_NAME + "REQUIRED_PARTICIPANT]... "
+            + "[" + PREFIX_CREATE_POLL + "]";
+    public static final String MESSAGE_SUCCESS = "Best meeting times for %1$s:\n%2$s";
+    public static final String MESSAGE_NO_MEETING_TIME = "No meeting time found in this date range.";
+    public static final String MESSAGE_NOT_PARTICIPANT = "%1$s has not joined this event.";
+    public static final int DEFAULT_TOP_K = 5;
+    public static final int MAX_TOP_K = 50;
+    // a meeting never runs past the end of its day
+    public static final int MAX_DURATION = 24 * 60;
+
+    private static final int SLOT_MINUTES = 30;
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int duration;
+    private final int topK;
+    private final Set<Name> requiredNames;
+    private final boolean isCreatingPoll;
+
+    /**
+     * Creates a FindMeetingTimeCommand for a meeting of {@code duration} minutes between the dates inclusive.
+     */
+    public FindMeetingTimeCommand(LocalDate startDate, LocalDate endDate, int duration, int topK,
+                                  Set<Name> requiredNames, boolean isCreatingPoll) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        requireNonNull(requiredNames);
+        assert duration > 0 && duration <= MAX_DURATION && topK > 0 && topK <= MAX_TOP_K;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.duration = duration;
+        this.topK = topK;
+        this.requiredNames = new HashSet<>(requiredNames);
+        this.isCreatingPoll = isCreatingPoll;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        if (DAYS.between(startDate, endDate) > 30 || endDate.isBefore(startDate)) {
+            throw new CommandException(Messages.MESSAGE_INVALID_DATE_RANGE);
+        }
+        try {
+            Event event = model.getSelectedEvent();
+            for (Name name : requiredNames) {
+                if (!event.containsPerson(name)) {
+                    throw new CommandException(String.format(MESSAGE_NOT_PARTICIPANT, name));
+                }
+            }
+
+            int durationSlots = (duration + SLOT_MINUTES - 1) / SLOT_MINUTES;
+            List<MeetingTime> meetingTimes = MeetingTimeSolver.forEvent(event, requiredNames)
+                    .solve(startDate, endDate, durationSlots, topK);
+            if (meetingTimes.isEmpty()) {
+                throw new CommandException(MESSAGE_NO_MEETING_TIME);
+            }
+
+            if (isCreatingPoll) {
+                String pollDisplayResult = model.addTimePoll(meetingTimes);
+                model.commitAddressBook();
+                EventsCenter.getInstance().post(new DisplayPollEvent(pollDisplayResult));
+            }
+
+            StringBuilder times = new StringBuilder();
+            for (int i = 0; i < meetingTimes.size(); i++) {
+                times.append(i + 1).append(". ").append(meetingTimes.get(i)).append("\n");
+            }
+            return new CommandResult(String.format(MESSAGE_SUCCESS, event.getName(), times.toString().trim()));
+        } catch (NoUserLoggedInException e) {
+            throw new CommandException(Messages.MESSAGE_NO_USER_LOGGED_IN);
+        } catch (NoEventSelectedException e) {
+            throw new CommandException(Messages.MESSAGE_NO_EVENT_SELECTED);
+        } catch (NotEventOrganiserException e) {
+            throw new CommandException(Messages.MESSAGE_NOT_EVENT_ORGANISER);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindMeetingTimeCommand // instanceof handles nulls
+                && startDate.equals(((FindMeetingTimeCommand) other).startDate)
+                && endDate.equals(((FindMeetingTimeCommand) other).endDate)
+                && duration == ((FindMeetingTimeCommand) other).duration
+                && topK == ((FindMeetingTimeCommand) other).topK
+                && requiredNames.equals(((FindMeetingTimeCommand) other).requiredNames)
+                && isCreatingPoll == ((FindMeetingTimeCommand) other).isCreatingPoll); // state check
+    }
+}
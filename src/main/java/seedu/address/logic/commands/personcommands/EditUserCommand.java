@@ -114,11 +114,14 @@ public class EditUserCommand extends Command {
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
         //@@author adjscent
         Schedule updatedSchedule = editPersonDescriptor.getSchedule().orElse(personToEdit.getSchedule());
+        if (editPersonDescriptor.getUpdateSchedule().isPresent()) {
+            updatedSchedule = updatedSchedule.xor(editPersonDescriptor.getUpdateSchedule().get());
+        }
+        if (!updatedSchedule.equals(personToEdit.getSchedule())) {
+            Schedule.evictRendering(personToEdit.getSchedule());
+        }
         //@@author
         Set<Friend> updatedFriends = editPersonDescriptor.getFriends().orElse(personToEdit.getFriends());
-        editPersonDescriptor.getUpdateSchedule().ifPresent((x)-> {
-            updatedSchedule.xor(x);
-        });
 
         return new Person(updatedName, updatedPhone, updatedEmail, updatedPassword, updatedAddress, updatedInterests,
                 updatedTags, updatedSchedule, updatedFriends);
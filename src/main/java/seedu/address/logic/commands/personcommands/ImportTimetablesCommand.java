@@ -0,0 +1,224 @@
+//@@author adjscent
+package seedu.address.logic.commands.personcommands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.TimeTableDownload;
+import seedu.address.commons.util.TimeTableUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.TimeTable;
+
+/**
+ * Replaces the schedules of many users with their NUSMods timetables, read from a file of share links.
+ * Every line of the file is {@code NAME,LINK}, and blank lines and lines starting with # are skipped.
+ * Each module shared by the timetables is downloaded once, and all the users are updated as one change.
+ * The logged-in user may only import their own timetable and those of the participants of the events they organise.
+ *
+ * @author adjscent
+ */
+public class ImportTimetablesCommand extends Command {
+
+    public static final String COMMAND_WORD = "importTimetables";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Replaces the schedules of users with their NUSMods timetables. "
+            + "Every line of the file is the name of a user and the share link of the timetable, "
+            + "separated by a comma. Only your own timetable and those of the participants of events you organise "
+            + "can be imported. The app waits up to "
+            + TimeTableUtil.DOWNLOAD_DEADLINE_MILLIS / 1000 + " seconds for the timetables to download.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/timetables.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported the timetables of %1$d users.";
+    public static final String MESSAGE_FAILURES = "Could not import the timetables of %1$d users:\n%2$s";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Cannot read the timetable file %1$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d is not NAME,LINK: %2$s";
+    public static final String MESSAGE_UNKNOWN_USER = "No such user";
+    public static final String MESSAGE_AMBIGUOUS_USER = "More than one user has this name";
+    public static final String MESSAGE_NOT_PARTICIPANT = "Not a participant of an event you organise";
+
+    // the command runs on the UI thread, so the whole import waits no longer than a single timetable download
+    public static final long IMPORT_DEADLINE_MILLIS = TimeTableUtil.DOWNLOAD_DEADLINE_MILLIS;
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final String SEPARATOR = ",";
+
+    private final Path file;
+
+    public ImportTimetablesCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasSetCurrentUser()) {
+            throw new CommandException(Messages.MESSAGE_NO_USER_LOGGED_IN);
+        }
+
+        LinkedHashMap<String, String> links = readLinks();
+        // users are identified by name and password, so a name shared by several users cannot be imported
+        HashMap<Name, Person> persons = new HashMap<>();
+        HashSet<Name> sharedNames = new HashSet<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            if (persons.putIfAbsent(person.getName(), person) != null) {
+                sharedNames.add(person.getName());
+            }
+        }
+
+        // the logged-in user and the participants of the events they organise
+        Person currentUser = model.getCurrentUser();
+        HashSet<Person> permittedPersons = new HashSet<>();
+        permittedPersons.add(currentUser);
+        for (Event event : model.getAddressBook().getEventList()) {
+            if (currentUser.isSamePerson(event.getOrganiser())) {
+                event.getParticipantList().forEach(permittedPersons::add);
+            }
+        }
+
+        LinkedHashMap<String, String> failures = new LinkedHashMap<>();
+        LinkedHashMap<String, String> knownLinks = new LinkedHashMap<>();
+        for (Map.Entry<String, String> link : links.entrySet()) {
+            Name name = new Name(link.getKey());
+            if (sharedNames.contains(name)) {
+                failures.put(link.getKey(), MESSAGE_AMBIGUOUS_USER);
+            } else if (!persons.containsKey(name)) {
+                failures.put(link.getKey(), MESSAGE_UNKNOWN_USER);
+            } else if (!permittedPersons.contains(persons.get(name))) {
+                failures.put(link.getKey(), MESSAGE_NOT_PARTICIPANT);
+            } else {
+                knownLinks.put(link.getKey(), link.getValue());
+            }
+        }
+
+        Map<String, TimeTableDownload> downloads = TimeTableUtil.downloadAll(knownLinks, IMPORT_DEADLINE_MILLIS);
+
+        // Convert the complete timetables to schedules side by side
+        Map<String, Optional<Schedule>> schedules = downloads.entrySet().parallelStream()
+                .filter(download -> download.getValue().isComplete())
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                    download -> toSchedule(download.getValue().getTimeTable())));
+
+        List<Person> targets = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (Map.Entry<String, TimeTableDownload> download : downloads.entrySet()) {
+            String name = download.getKey();
+            if (!download.getValue().isComplete()) {
+                failures.put(name, download.getValue().getErrorMessage());
+                continue;
+            }
+            Optional<Schedule> schedule = schedules.get(name);
+            if (!schedule.isPresent()) {
+                failures.put(name, Schedule.INVALID_MESSAGE_SCHEDULE);
+                continue;
+            }
+            Person target = persons.get(new Name(name));
+            targets.add(target);
+            editedPersons.add(new Person(target.getName(), target.getPhone(), target.getEmail(),
+                    target.getPassword(), target.getAddress(), target.getInterests(), target.getTags(),
+                    schedule.get(), target.getFriends()));
+        }
+
+        if (!targets.isEmpty()) {
+            applyUpdates(model, targets, editedPersons);
+        }
+
+        String message = String.format(MESSAGE_SUCCESS, targets.size());
+        if (!failures.isEmpty()) {
+            message += "\n" + String.format(MESSAGE_FAILURES, failures.size(), failures.entrySet().stream()
+                    .map(failure -> failure.getKey() + " - " + failure.getValue())
+                    .collect(Collectors.joining("\n")));
+        }
+        return new CommandResult(message);
+    }
+
+    /**
+     * Streams the (name, link) pairs out of the file, the last link of a name winning
+     */
+    private LinkedHashMap<String, String> readLinks() throws CommandException {
+        LinkedHashMap<String, String> links = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                // share links contain commas but names do not
+                int separator = trimmedLine.indexOf(SEPARATOR);
+                String name = separator < 0 ? "" : trimmedLine.substring(0, separator).trim();
+                String link = separator < 0 ? "" : trimmedLine.substring(separator + 1).trim();
+                if (!Name.isValidName(name) || link.isEmpty()) {
+                    throw new CommandException(String.format(MESSAGE_INVALID_LINE, lineNumber, line));
+                }
+                links.put(name, link);
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, file));
+        }
+        return links;
+    }
+
+    private static Optional<Schedule> toSchedule(TimeTable timeTable) {
+        try {
+            return Optional.of(timeTable.convertToSchedule());
+        } catch (ParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Updates all the persons as a single change, logging the current user in again if it was updated
+     */
+    private static void applyUpdates(Model model, List<Person> targets, List<Person> editedPersons) {
+        Person currentUser = model.getCurrentUser();
+        Person editedCurrentUser = null;
+        for (int i = 0; i < targets.size(); i++) {
+            Schedule.evictRendering(targets.get(i).getSchedule());
+            if (targets.get(i).isSamePerson(currentUser)) {
+                editedCurrentUser = editedPersons.get(i);
+            }
+        }
+
+        model.updatePersons(targets, editedPersons);
+        model.commitAddressBook();
+        if (editedCurrentUser != null) {
+            model.removeCurrentUser();
+            model.setCurrentUser(editedCurrentUser);
+            model.authenticateUser(editedCurrentUser);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportTimetablesCommand // instanceof handles nulls
+                && file.equals(((ImportTimetablesCommand) other).file)); // state check
+    }
+}
@@ -0,0 +1,83 @@
+//@@author adjscent
+package seedu.address.logic.commands.personcommands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FRIENDS_ONLY;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.FreeBlock;
+import seedu.address.model.person.IsFreePredicate;
+import seedu.address.model.person.IsFriendPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Slot;
+
+/**
+ * Lists the persons who are free in a slot, or over a range of slots on one day, of the weekly schedule.
+ *
+ * @author adjscent
+ */
+public class WhoIsFreeCommand extends Command {
+
+    public static final String COMMAND_WORD = "whoIsFree";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows a list of persons who are free at the given time, or in every time slot from the start "
+            + "time to the end time inclusive on the same day. With " + PREFIX_FRIENDS_ONLY + ", only friends of the "
+            + "logged-in user are shown.\n"
+            + "Parameters: DAY START_TIME [END_TIME] [" + PREFIX_FRIENDS_ONLY + "]\n"
+            + "Example: " + COMMAND_WORD + " tuesday 1400 1530 " + PREFIX_FRIENDS_ONLY;
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons are free on %2$s";
+
+    private final Slot start;
+    private final int slotCount;
+    private final boolean isFriendsOnly;
+
+    /**
+     * Creates a WhoIsFreeCommand for {@code slotCount} consecutive slots on the day of {@code start}
+     */
+    public WhoIsFreeCommand(Slot start, int slotCount, boolean isFriendsOnly) {
+        requireNonNull(start);
+        assert (slotCount > 0 && start.getTime().getNumberRepresentation() + slotCount <= Schedule.HOUR);
+        this.start = start;
+        this.slotCount = slotCount;
+        this.isFriendsOnly = isFriendsOnly;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (isFriendsOnly && !model.hasSetCurrentUser()) {
+            throw new CommandException(Messages.MESSAGE_NO_USER_LOGGED_IN);
+        }
+
+        List<Person> freePersons = model.getFreePersons(start.getIndex(), start.getIndex() + slotCount);
+        Predicate<Person> predicate = new IsFreePredicate(freePersons);
+        if (isFriendsOnly) {
+            predicate = predicate.and(new IsFriendPredicate(model.getCurrentUser()));
+        }
+        model.updateFilteredPersonList(predicate);
+
+        int time = start.getTime().getNumberRepresentation();
+        FreeBlock block = new FreeBlock(start.getDay().getNumberRepresentation(), time, time + slotCount);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size(), block));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WhoIsFreeCommand // instanceof handles nulls
+                && start.getIndex() == ((WhoIsFreeCommand) other).start.getIndex()
+                && slotCount == ((WhoIsFreeCommand) other).slotCount
+                && isFriendsOnly == ((WhoIsFreeCommand) other).isFriendsOnly); // state check
+    }
+}
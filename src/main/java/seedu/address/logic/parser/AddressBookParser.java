@@ -8,6 +8,7 @@ import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HeatScheduleCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.LoginCommand;
@@ -22,6 +23,7 @@ import seedu.address.logic.commands.eventcommands.DisplayPollCommand;
 import seedu.address.logic.commands.eventcommands.EditEventCommand;
 import seedu.address.logic.commands.eventcommands.FindEventByTimeCommand;
 import seedu.address.logic.commands.eventcommands.FindEventCommand;
+import seedu.address.logic.commands.eventcommands.FindMeetingTimeCommand;
 import seedu.address.logic.commands.eventcommands.JoinEventCommand;
 import seedu.address.logic.commands.eventcommands.ListEventCommand;
 import seedu.address.logic.commands.eventcommands.SelectEventCommand;
@@ -35,10 +37,12 @@ import seedu.address.logic.commands.personcommands.DeleteFriendCommand;
 import seedu.address.logic.commands.personcommands.DeleteUserCommand;
 import seedu.address.logic.commands.personcommands.EditUserCommand;
 import seedu.address.logic.commands.personcommands.FindUserCommand;
+import seedu.address.logic.commands.personcommands.ImportTimetablesCommand;
 import seedu.address.logic.commands.personcommands.ListFriendsCommand;
 import seedu.address.logic.commands.personcommands.ListUserCommand;
 import seedu.address.logic.commands.personcommands.SelectUserCommand;
 import seedu.address.logic.commands.personcommands.SuggestFriendsByInterestsCommand;
+import seedu.address.logic.commands.personcommands.WhoIsFreeCommand;
 import seedu.address.logic.parser.eventparsers.AddEventCommandParser;
 import seedu.address.logic.parser.eventparsers.AddPollCommandParser;
 import seedu.address.logic.parser.eventparsers.AddPollOptionCommandParser;
@@ -48,6 +52,7 @@ import seedu.address.logic.parser.eventparsers.DisplayPollCommandParser;
 import seedu.address.logic.parser.eventparsers.EditEventCommandParser;
 import seedu.address.logic.parser.eventparsers.FindEventByTimeCommandParser;
 import seedu.address.logic.parser.eventparsers.FindEventCommandParser;
+import seedu.address.logic.parser.eventparsers.FindMeetingTimeCommandParser;
 import seedu.address.logic.parser.eventparsers.JoinEventCommandParser;
 import seedu.address.logic.parser.eventparsers.SelectEventCommandParser;
 import seedu.address.logic.parser.eventparsers.SetDateCommandParser;
@@ -126,6 +131,9 @@ public class AddressBookParser {
         case AddTimePollCommand.COMMAND_WORD:
             return new AddTimePollCommandParser().parse(arguments);
 
+        case FindMeetingTimeCommand.COMMAND_WORD:
+            return new FindMeetingTimeCommandParser().parse(arguments);
+
         case AddPollOptionCommand.COMMAND_WORD:
             return new AddPollOptionCommandParser().parse(arguments);
 
@@ -177,6 +185,15 @@ public class AddressBookParser {
         case MaxScheduleCommand.COMMAND_WORD:
             return new MaxScheduleCommandParser().parse(arguments);
 
+        case HeatScheduleCommand.COMMAND_WORD:
+            return new HeatScheduleCommandParser().parse(arguments);
+
+        case WhoIsFreeCommand.COMMAND_WORD:
+            return new WhoIsFreeCommandParser().parse(arguments);
+
+        case ImportTimetablesCommand.COMMAND_WORD:
+            return new ImportTimetablesCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
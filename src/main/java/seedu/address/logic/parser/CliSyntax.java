@@ -27,6 +27,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_PARTICIPANT_NAME = new Prefix("pn/");
     public static final Prefix PREFIX_ORGANISER_NAME = new Prefix("on/");
     public static final Prefix PREFIX_SCHEDULE_LIMIT = new Prefix("sl/");
+    public static final Prefix PREFIX_MIN_FREE = new Prefix("mf/");
+    public static final Prefix PREFIX_MIN_DURATION = new Prefix("md/");
+    public static final Prefix PREFIX_TOP_K = new Prefix("k/");
+    public static final Prefix PREFIX_CREATE_POLL = new Prefix("poll/");
+    public static final Prefix PREFIX_FRIENDS_ONLY = new Prefix("friends/");
 
 
 }
@@ -78,11 +78,9 @@ public class EditUserCommandParser implements Parser<EditUserCommand> {
 
         if (argMultimap.getValue(PREFIX_SCHEDULE_UPDATE).isPresent()) {
             String link = argMultimap.getValue(PREFIX_SCHEDULE_UPDATE).get();
-            Schedule s = new Schedule();
             String[] parms = link.split(" ");
             Slot slot = new Slot(parms[0].trim(), parms[1].trim());
-            s.setTimeDay(slot, true);
-            editPersonDescriptor.setUpdateSchedule(s);
+            editPersonDescriptor.setUpdateSchedule(new Schedule().setTimeDay(slot, true));
         }
         //@@author
 
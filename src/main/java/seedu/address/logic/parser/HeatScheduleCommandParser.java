@@ -0,0 +1,50 @@
+//@@author adjscent
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_FREE;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.HeatScheduleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+
+/**
+ * HeatSchedule Command Parser
+ */
+public class HeatScheduleCommandParser implements Parser<HeatScheduleCommand> {
+
+    @Override
+    public HeatScheduleCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        Index[] index;
+        Integer minFree = null;
+
+        ArgumentMultimap argMultimap =
+            ArgumentTokenizer.tokenize(args, PREFIX_MIN_FREE);
+
+        try {
+            if (argMultimap.getValue(PREFIX_MIN_FREE).isPresent()) {
+                minFree = Integer.parseInt(argMultimap.getValue(PREFIX_MIN_FREE).get().trim());
+                if (minFree <= 0) {
+                    throw new ParseException(String.format(
+                        MESSAGE_INVALID_COMMAND_FORMAT, HeatScheduleCommand.MESSAGE_USAGE));
+                }
+            }
+
+            String preamble = argMultimap.getPreamble().trim();
+            String[] argsArray = preamble.isEmpty() ? new String[0] : preamble.split("\\s+");
+            index = new Index[argsArray.length];
+            for (int i = 0; i < index.length; i++) {
+                index[i] = Index.fromOneBased(Integer.parseInt(argsArray[i]));
+            }
+        } catch (NumberFormatException | IndexOutOfBoundsException pe) {
+            throw new ParseException(String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, HeatScheduleCommand.MESSAGE_USAGE), pe);
+        }
+
+        return new HeatScheduleCommand(index, minFree);
+    }
+
+}
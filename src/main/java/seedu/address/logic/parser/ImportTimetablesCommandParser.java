@@ -0,0 +1,28 @@
+//@@author adjscent
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.personcommands.ImportTimetablesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * ImportTimetables Command Parser
+ */
+public class ImportTimetablesCommandParser implements Parser<ImportTimetablesCommand> {
+
+    @Override
+    public ImportTimetablesCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, ImportTimetablesCommand.MESSAGE_USAGE));
+        }
+        return new ImportTimetablesCommand(Paths.get(trimmedArgs));
+    }
+}
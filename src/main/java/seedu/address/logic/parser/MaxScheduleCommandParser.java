@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_LIMIT;
 
 import java.util.List;
@@ -24,9 +25,10 @@ public class MaxScheduleCommandParser implements Parser<MaxScheduleCommand> {
     public MaxScheduleCommand parse(String args) throws ParseException {
         requireNonNull(args);
         Index[] index;
+        Integer minDuration = null;
 
         ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args, PREFIX_SCHEDULE_LIMIT);
+            ArgumentTokenizer.tokenize(args, PREFIX_SCHEDULE_LIMIT, PREFIX_MIN_DURATION);
 
         if (argMultimap.getValue(PREFIX_SCHEDULE_LIMIT).isPresent()) {
             limit = argMultimap.getValue(PREFIX_SCHEDULE_LIMIT).get().trim();
@@ -60,6 +62,19 @@ public class MaxScheduleCommandParser implements Parser<MaxScheduleCommand> {
             }
         }
 
+        if (argMultimap.getValue(PREFIX_MIN_DURATION).isPresent()) {
+            try {
+                minDuration = Integer.valueOf(argMultimap.getValue(PREFIX_MIN_DURATION).get().trim());
+            } catch (NumberFormatException e) {
+                throw new ParseException(String.format(
+                    MESSAGE_INVALID_COMMAND_FORMAT, MaxScheduleCommand.MESSAGE_USAGE), e);
+            }
+            if (minDuration <= 0 || minDuration > MaxScheduleCommand.MAX_MIN_DURATION) {
+                throw new ParseException(String.format(
+                    MESSAGE_INVALID_COMMAND_FORMAT, MaxScheduleCommand.MESSAGE_USAGE));
+            }
+        }
+
         try {
             String[] argsArray = argMultimap.getPreamble().split(" ");
             index = new Index[argsArray.length];
@@ -73,7 +88,7 @@ public class MaxScheduleCommandParser implements Parser<MaxScheduleCommand> {
                 MESSAGE_INVALID_COMMAND_FORMAT, MaxScheduleCommand.MESSAGE_USAGE), pe);
         }
 
-        return new MaxScheduleCommand(index, limit);
+        return new MaxScheduleCommand(index, limit, minDuration);
     }
 
 }
@@ -0,0 +1,45 @@
+//@@author adjscent
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FRIENDS_ONLY;
+
+import seedu.address.logic.commands.personcommands.WhoIsFreeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Slot;
+import seedu.address.model.person.Time;
+
+/**
+ * WhoIsFree Command Parser
+ */
+public class WhoIsFreeCommandParser implements Parser<WhoIsFreeCommand> {
+
+    @Override
+    public WhoIsFreeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FRIENDS_ONLY);
+
+        String[] argsArray = argMultimap.getPreamble().trim().split("\\s+");
+        if (argsArray.length < 2 || argsArray.length > 3) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WhoIsFreeCommand.MESSAGE_USAGE));
+        }
+
+        Day day = Day.of(argsArray[0]);
+        Time startTime = Time.of(argsArray[1]);
+        int slotCount = 1;
+        if (argsArray.length == 3) {
+            // the end time is a slot too, as the limit of maxSchedule includes its end, so 2330 can be queried
+            slotCount = Time.of(argsArray[2]).getNumberRepresentation() - startTime.getNumberRepresentation() + 1;
+            if (slotCount <= 0) {
+                throw new ParseException(String.format(
+                    MESSAGE_INVALID_COMMAND_FORMAT, WhoIsFreeCommand.MESSAGE_USAGE));
+            }
+        }
+        boolean isFriendsOnly = argMultimap.getValue(PREFIX_FRIENDS_ONLY).isPresent();
+
+        return new WhoIsFreeCommand(Slot.of(day.getNumberRepresentation(), startTime.getNumberRepresentation()),
+            slotCount, isFriendsOnly);
+    }
+}
@@ -0,0 +1,78 @@
+//@@author adjscent
+package seedu.address.logic.parser.eventparsers;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CREATE_POLL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_START;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARTICIPANT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP_K;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.logic.commands.eventcommands.FindMeetingTimeCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+
+/**
+ * Parses and returns a FindMeetingTimeCommand.
+ */
+public class FindMeetingTimeCommandParser implements Parser<FindMeetingTimeCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindMeetingTimeCommand
+     * and returns a FindMeetingTimeCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindMeetingTimeCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE_START, PREFIX_DATE_END,
+                PREFIX_MIN_DURATION, PREFIX_TOP_K, PREFIX_PARTICIPANT_NAME, PREFIX_CREATE_POLL);
+
+        if (!argMultimap.getValue(PREFIX_DATE_START).isPresent()
+                || !argMultimap.getValue(PREFIX_DATE_END).isPresent()
+                || !argMultimap.getValue(PREFIX_MIN_DURATION).isPresent()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindMeetingTimeCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE_START).get());
+        LocalDate endDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE_END).get());
+        int duration = parsePositiveInteger(argMultimap.getValue(PREFIX_MIN_DURATION).get(),
+                FindMeetingTimeCommand.MAX_DURATION);
+        int topK = FindMeetingTimeCommand.DEFAULT_TOP_K;
+        if (argMultimap.getValue(PREFIX_TOP_K).isPresent()) {
+            topK = parsePositiveInteger(argMultimap.getValue(PREFIX_TOP_K).get(), FindMeetingTimeCommand.MAX_TOP_K);
+        }
+        Set<Name> requiredNames = new HashSet<>();
+        for (String name : argMultimap.getAllValues(PREFIX_PARTICIPANT_NAME)) {
+            requiredNames.add(ParserUtil.parseName(name));
+        }
+        boolean isCreatingPoll = argMultimap.getValue(PREFIX_CREATE_POLL).isPresent();
+
+        return new FindMeetingTimeCommand(startDate, endDate, duration, topK, requiredNames, isCreatingPoll);
+    }
+
+    /**
+     * Parses a positive integer of at most {@code max}, throwing a ParseException with the command usage otherwise.
+     */
+    private static int parsePositiveInteger(String value, int max) throws ParseException {
+        try {
+            int number = Integer.parseInt(value.trim());
+            if (number > 0 && number <= max) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the usage message
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindMeetingTimeCommand.MESSAGE_USAGE));
+    }
+}
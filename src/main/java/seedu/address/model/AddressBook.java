@@ -2,7 +2,13 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
@@ -19,6 +25,17 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueEventList events;
 
+    //@@author adjscent
+    // the ids used in this address book
+    private IdRegistry personIds = new IdRegistry(0);
+    private IdRegistry eventIds = new IdRegistry(0);
+
+    // what changed since the changes were last taken
+    private boolean arePersonsChanged;
+    private boolean areAllEventsChanged;
+    private final Set<Long> changedEventIds = new HashSet<>();
+    //@@author
+
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -48,7 +65,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        //@@author adjscent
+        IdRegistry ids = new IdRegistry(personIds.nextId);
+        this.persons.setPersons(withIds(persons, ids, Person::getId, Person::setId, Person::new));
+        personIds = ids;
+        arePersonsChanged = true;
+        //@@author
     }
 
     /**
@@ -56,7 +78,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code events} must not contain duplicate events.
      */
     public void setEvents(List<Event> events) {
-        this.events.setEvents(events);
+        //@@author adjscent
+        IdRegistry ids = new IdRegistry(eventIds.nextId);
+        this.events.setEvents(withIds(events, ids, Event::getId, Event::setId, Event::getCopy));
+        eventIds = ids;
+        areAllEventsChanged = true;
+        //@@author
     }
 
     /**
@@ -92,6 +119,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        //@@author adjscent
+        Person added = withId(p, personIds.claim(p.getId()), Person::getId, Person::setId, Person::new);
+        if (added != p) {
+            persons.setPerson(p, added);
+        }
+        arePersonsChanged = true;
+        //@@author
     }
 
     /**
@@ -103,6 +137,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        //@@author adjscent
+        Person edited = withId(editedPerson, target.getId(), Person::getId, Person::setId, Person::new);
+        if (edited != editedPerson) {
+            persons.setPerson(editedPerson, edited);
+        }
+        arePersonsChanged = true;
+        //@@author
     }
 
     /**
@@ -111,10 +152,20 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        //@@author adjscent
+        arePersonsChanged = true;
+        //@@author
     }
 
     public void addEvent(Event p) {
         events.add(p);
+        //@@author adjscent
+        Event added = withId(p, eventIds.claim(p.getId()), Event::getId, Event::setId, Event::getCopy);
+        if (added != p) {
+            events.setEvent(events.asUnmodifiableObservableList().size() - 1, added);
+        }
+        changedEventIds.add(added.getId());
+        //@@author
     }
 
     /**
@@ -126,6 +177,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedEvent);
 
         events.setEvent(target, editedEvent);
+        //@@author adjscent
+        Event edited = withId(editedEvent, target.getId(), Event::getId, Event::setId, Event::getCopy);
+        if (edited != editedEvent) {
+            events.setEvent(editedEvent, edited);
+        }
+        markEventChanged(edited);
+        //@@author
     }
 
     /**
@@ -136,7 +194,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void updateEvent(int index, Event editedEvent) {
         requireNonNull(editedEvent);
 
-        events.setEvent(index, editedEvent);
+        //@@author adjscent
+        Event edited = withId(editedEvent, events.asUnmodifiableObservableList().get(index).getId(),
+                Event::getId, Event::setId, Event::getCopy);
+        events.setEvent(index, edited);
+        markEventChanged(edited);
+        //@@author
     }
 
     /**
@@ -145,8 +208,85 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeEvent(Event key) {
         events.remove(key);
+        //@@author adjscent
+        markEventChanged(key);
+        //@@author
+    }
+
+    //@@author adjscent
+    /**
+     * Returns what changed in this address book since the changes were last taken, and starts tracking the changes
+     * afresh.
+     */
+    public AddressBookChanges takeChanges() {
+        AddressBookChanges changes = new AddressBookChanges(arePersonsChanged, areAllEventsChanged, changedEventIds);
+        arePersonsChanged = false;
+        areAllEventsChanged = false;
+        changedEventIds.clear();
+        return changes;
+    }
+
+    private void markEventChanged(Event event) {
+        if (event.getId() == Event.NO_ID) {
+            areAllEventsChanged = true;
+        } else {
+            changedEventIds.add(event.getId());
+        }
+    }
+
+    /**
+     * Returns {@code element} with the id {@code id}.
+     * An element without an id is given the id itself, but an element holding another id may be in another
+     * address book too, so it is copied rather than renumbered.
+     */
+    private static <T> T withId(T element, long id, ToLongFunction<T> idOf, ObjLongConsumer<T> setId,
+                                UnaryOperator<T> copy) {
+        long currentId = idOf.applyAsLong(element);
+        if (currentId == id) {
+            return element;
+        }
+        T result = currentId < 0 ? element : copy.apply(element);
+        setId.accept(result, id);
+        return result;
+    }
+
+    /**
+     * Returns {@code elements} with the ids claimed from {@code ids}, each keeping its id unless an earlier element
+     * has it.
+     */
+    private static <T> List<T> withIds(List<T> elements, IdRegistry ids, ToLongFunction<T> idOf,
+                                       ObjLongConsumer<T> setId, UnaryOperator<T> copy) {
+        List<T> result = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            result.add(withId(element, ids.claim(idOf.applyAsLong(element)), idOf, setId, copy));
+        }
+        return result;
+    }
+
+    /**
+     * The ids used in an address book, and the next id to give out.
+     * Ids are never given out twice, so an id stays with what it referred to even after that is removed.
+     */
+    private static class IdRegistry {
+        private final Set<Long> usedIds = new HashSet<>();
+        private long nextId;
+
+        IdRegistry(long nextId) {
+            this.nextId = nextId;
+        }
+
+        /**
+         * Marks {@code id} as used and returns it, or returns a new id if {@code id} is already used or no id.
+         */
+        long claim(long id) {
+            long claimed = id >= 0 && !usedIds.contains(id) ? id : nextId;
+            usedIds.add(claimed);
+            nextId = Math.max(nextId, claimed + 1);
+            return claimed;
+        }
     }
 
+    //@@author
     //// util methods
 
     @Override
@@ -0,0 +1,103 @@
+//@@author adjscent
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The parts of an address book that changed since it was last saved: its person list, and each of its events by
+ * id. Storage that keeps the parts separately only needs to rewrite the parts that changed.
+ * Guarantees: immutable.
+ *
+ * @author adjscent
+ */
+public class AddressBookChanges {
+
+    public static final AddressBookChanges NONE = new AddressBookChanges(false, false, Collections.emptySet());
+    public static final AddressBookChanges ALL = new AddressBookChanges(true, true, Collections.emptySet());
+
+    private final boolean arePersonsChanged;
+    private final boolean areAllEventsChanged;
+    private final Set<Long> changedEventIds;
+
+    /**
+     * @param changedEventIds the ids of the events that were added, changed or removed.
+     */
+    public AddressBookChanges(boolean arePersonsChanged, boolean areAllEventsChanged, Set<Long> changedEventIds) {
+        requireNonNull(changedEventIds);
+        this.arePersonsChanged = arePersonsChanged;
+        this.areAllEventsChanged = areAllEventsChanged;
+        this.changedEventIds = Collections.unmodifiableSet(new HashSet<>(changedEventIds));
+    }
+
+    public boolean arePersonsChanged() {
+        return arePersonsChanged;
+    }
+
+    /**
+     * Returns true if the event list was replaced, so that any event may have been added, changed or removed.
+     */
+    public boolean areAllEventsChanged() {
+        return areAllEventsChanged;
+    }
+
+    /**
+     * Returns the ids of the events that were added, changed or removed, besides all events if
+     * {@link #areAllEventsChanged()}.
+     */
+    public Set<Long> getChangedEventIds() {
+        return changedEventIds;
+    }
+
+    /**
+     * Returns true if the event with {@code id} may have been added, changed or removed.
+     */
+    public boolean isEventChanged(long id) {
+        return areAllEventsChanged || changedEventIds.contains(id);
+    }
+
+    public boolean isEmpty() {
+        return !arePersonsChanged && !areAllEventsChanged && changedEventIds.isEmpty();
+    }
+
+    /**
+     * Returns the changes made by these changes followed by {@code other}.
+     */
+    public AddressBookChanges merge(AddressBookChanges other) {
+        requireNonNull(other);
+        Set<Long> eventIds = new HashSet<>(changedEventIds);
+        eventIds.addAll(other.changedEventIds);
+        return new AddressBookChanges(arePersonsChanged || other.arePersonsChanged,
+                areAllEventsChanged || other.areAllEventsChanged, eventIds);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof AddressBookChanges)) {
+            return false;
+        }
+
+        AddressBookChanges otherChanges = (AddressBookChanges) other;
+        return arePersonsChanged == otherChanges.arePersonsChanged
+                && areAllEventsChanged == otherChanges.areAllEventsChanged
+                && changedEventIds.equals(otherChanges.changedEventIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(arePersonsChanged, areAllEventsChanged, changedEventIds);
+    }
+
+    @Override
+    public String toString() {
+        return "persons changed: " + arePersonsChanged + ", events changed: "
+                + (areAllEventsChanged ? "all" : changedEventIds);
+    }
+}
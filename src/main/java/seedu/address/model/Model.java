@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -10,6 +11,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.MeetingTime;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
@@ -66,6 +68,18 @@ public interface Model {
      */
     void updatePerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons},
+     * as a single change to the address book.
+     * The same conditions as {@link #updatePerson(Person, Person)} apply to each pair.
+     */
+    void updatePersons(List<Person> targets, List<Person> editedPersons);
+
+    /**
+     * Returns the persons free in every weekly schedule slot from {@code fromSlot} to before {@code toSlot}.
+     */
+    List<Person> getFreePersons(int fromSlot, int toSlot);
+
     void updateEvent(Event target, Event editedEvent);
 
     /**
@@ -152,6 +166,11 @@ public interface Model {
      */
     String addTimePoll(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Creates a time poll to the pre-selected event with the given meeting times as options.
+     */
+    String addTimePoll(List<MeetingTime> meetingTimes);
+
     /**
      * Adds a poll option to the poll at the given index of the pre-selected event.
      *
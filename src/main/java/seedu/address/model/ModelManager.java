@@ -6,6 +6,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -23,10 +24,12 @@ import seedu.address.logic.commands.exceptions.NoEventSelectedException;
 import seedu.address.logic.commands.exceptions.NoUserLoggedInException;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.MeetingTime;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.NotEventOrganiserException;
 
 import seedu.address.model.person.Address;
+import seedu.address.model.person.AvailabilityIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
@@ -39,6 +42,7 @@ public class ModelManager extends ComponentManager implements Model {
     private final VersionedAddressBook versionedAddressBook;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Event> filteredEvents;
+    private final AvailabilityIndex availabilityIndex;
     private Person currentUser;
     private Event currentEvent;
     private boolean clearIsEnabled;
@@ -53,8 +57,13 @@ public class ModelManager extends ComponentManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         versionedAddressBook = new VersionedAddressBook(addressBook);
+        //@@author adjscent
+        // the address book starts out as it was saved
+        versionedAddressBook.takeChanges();
+        //@@author
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
         filteredEvents = new FilteredList<>(versionedAddressBook.getEventList());
+        availabilityIndex = new AvailabilityIndex(versionedAddressBook.getPersonList());
         currentUser = null;
         clearIsEnabled = false;
     }
@@ -129,6 +138,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
         versionedAddressBook.resetData(newData);
+        availabilityIndex.reset(versionedAddressBook.getPersonList());
         indicateAddressBookChanged();
     }
 
@@ -139,7 +149,7 @@ public class ModelManager extends ComponentManager implements Model {
 
     /** Raises an event to indicate the model has changed */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(versionedAddressBook));
+        raise(new AddressBookChangedEvent(versionedAddressBook, versionedAddressBook.takeChanges()));
     }
 
     /** Raises an event to indicate that a user has logged in */
@@ -160,12 +170,14 @@ public class ModelManager extends ComponentManager implements Model {
         }
         deleteEventsWithUser(target);
         versionedAddressBook.removePerson(target);
+        availabilityIndex.remove(target);
         indicateAddressBookChanged();
     }
 
     @Override
     public void addPerson(Person person) {
         versionedAddressBook.addPerson(person);
+        availabilityIndex.add(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         indicateAddressBookChanged();
     }
@@ -176,9 +188,32 @@ public class ModelManager extends ComponentManager implements Model {
         requireAllNonNull(target, editedPerson);
         updateUserInEvents(target, editedPerson);
         versionedAddressBook.updatePerson(target, editedPerson);
+        availabilityIndex.update(target, editedPerson);
         indicateAddressBookChanged();
     }
 
+    //@@author adjscent
+    @Override
+    public void updatePersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        assert targets.size() == editedPersons.size();
+        for (int i = 0; i < targets.size(); i++) {
+            Person target = targets.get(i);
+            Person editedPerson = editedPersons.get(i);
+            requireAllNonNull(target, editedPerson);
+            updateUserInEvents(target, editedPerson);
+            versionedAddressBook.updatePerson(target, editedPerson);
+            availabilityIndex.update(target, editedPerson);
+        }
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public List<Person> getFreePersons(int fromSlot, int toSlot) {
+        return availabilityIndex.getFreePersons(fromSlot, toSlot);
+    }
+    //@@author
+
     public Person getPerson(Index targetIndex) {
         return filteredPersons.get(targetIndex.getZeroBased());
     }
@@ -263,15 +298,24 @@ public class ModelManager extends ComponentManager implements Model {
      */
     private void deleteEventsWithUser(Person userToDelete) {
         ArrayList<Event> deletedEvents = new ArrayList<>();
+        ArrayList<Event> changedEvents = new ArrayList<>();
         for (Event event : versionedAddressBook.getEventList()) {
             if (event.getOrganiser().equals(userToDelete)) {
                 deletedEvents.add(event);
             }
-            event.deletePerson(userToDelete);
+            if (event.deletePerson(userToDelete)) {
+                changedEvents.add(event);
+            }
         }
         for (Event event : deletedEvents) {
             versionedAddressBook.removeEvent(event);
         }
+        //@@author adjscent
+        changedEvents.removeAll(deletedEvents);
+        for (Event event : changedEvents) {
+            versionedAddressBook.updateEvent(event, event);
+        }
+        //@@author
     }
 
     /**
@@ -337,6 +381,24 @@ public class ModelManager extends ComponentManager implements Model {
         return pollDetails;
     }
 
+    //@@author adjscent
+    @Override
+    public String addTimePoll(List<MeetingTime> meetingTimes) {
+        if (currentUser == null) {
+            throw new NoUserLoggedInException();
+        }
+        if (currentEvent == null) {
+            throw new NoEventSelectedException();
+        }
+        if (!currentUser.equals(currentEvent.getOrganiser())) {
+            throw new NotEventOrganiserException();
+        }
+        String pollDetails = currentEvent.addTimePoll(meetingTimes);
+        updateEvent(currentEvent, currentEvent);
+        return pollDetails;
+    }
+    //@@author
+
     @Override
     public String addPollOption(Index index, String option) {
         if (currentEvent == null) {
@@ -455,12 +517,14 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void undoAddressBook() {
         versionedAddressBook.undo();
+        availabilityIndex.reset(versionedAddressBook.getPersonList());
         indicateAddressBookChanged();
     }
 
     @Override
     public void redoAddressBook() {
         versionedAddressBook.redo();
+        availabilityIndex.reset(versionedAddressBook.getPersonList());
         indicateAddressBookChanged();
     }
 
@@ -13,6 +13,9 @@ public class UserPrefs {
 
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data" , "addressbook.xml");
+    private boolean isAddressBookJournaled = false;
+    private boolean isAddressBookBinary = false;
+    private boolean isAddressBookSharded = false;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +41,42 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    //@@author adjscent
+    /**
+     * Returns true if changes are appended to a journal beside the data file instead of rewriting it
+     */
+    public boolean isAddressBookJournaled() {
+        return isAddressBookJournaled;
+    }
+
+    public void setAddressBookJournaled(boolean isAddressBookJournaled) {
+        this.isAddressBookJournaled = isAddressBookJournaled;
+    }
+
+    /**
+     * Returns true if the address book is kept in the binary file beside the data file instead of the data file
+     */
+    public boolean isAddressBookBinary() {
+        return isAddressBookBinary;
+    }
+
+    public void setAddressBookBinary(boolean isAddressBookBinary) {
+        this.isAddressBookBinary = isAddressBookBinary;
+    }
+
+    /**
+     * Returns true if the address book is kept in shards in a directory beside the data file instead of the data
+     * file, one for the persons and one for each event
+     */
+    public boolean isAddressBookSharded() {
+        return isAddressBookSharded;
+    }
+
+    public void setAddressBookSharded(boolean isAddressBookSharded) {
+        this.isAddressBookSharded = isAddressBookSharded;
+    }
+
+    //@@author
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +89,16 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(addressBookFilePath, o.addressBookFilePath);
+                && Objects.equals(addressBookFilePath, o.addressBookFilePath)
+                && isAddressBookJournaled == o.isAddressBookJournaled
+                && isAddressBookBinary == o.isAddressBookBinary
+                && isAddressBookSharded == o.isAddressBookSharded;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, isAddressBookJournaled, isAddressBookBinary,
+                isAddressBookSharded);
     }
 
     @Override
@@ -33,6 +33,10 @@ import seedu.address.model.tag.Tag;
  * Represents a Event in the event organiser.
  */
 public class Event {
+    //@@author adjscent
+    public static final long NO_ID = -1;
+
+    //@@author theJrLinguist
     private static final String EVENT_HEADER = "People attending: " + '\n';
     private static final String POLLS_HEADER = "Polls: " + '\n';
 
@@ -50,6 +54,11 @@ public class Event {
     private final ArrayList<AbstractPoll> polls = new ArrayList<>();
     private final UniquePersonList participantList = new UniquePersonList();
 
+    //@@author adjscent
+    // assigned by the address book holding the event, and kept across edits
+    private long id = NO_ID;
+    //@@author theJrLinguist
+
     /**
      * Every field must be present and not null.
      */
@@ -73,6 +82,19 @@ public class Event {
         this.participantList.add(organiser);
     }
 
+    //@@author adjscent
+    /**
+     * Returns the id that refers to this event in the address book, or {@code NO_ID} if it has none yet.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    //@@author theJrLinguist
     public EventName getName() {
         return name;
     }
@@ -166,10 +188,15 @@ public class Event {
     }
 
     /**
-     * Adds a new person to the event.
+     * Adds a new person to the event, and to the availability counted by its time polls.
      */
     public void addParticipant(Person person) throws DuplicatePersonException {
         participantList.add(person);
+        for (AbstractPoll poll : polls) {
+            if (poll instanceof TimePoll) {
+                ((TimePoll) poll).addParticipant(person);
+            }
+        }
     }
 
     public UniquePersonList getParticipantList() {
@@ -217,6 +244,18 @@ public class Event {
         return poll.displayPoll();
     }
 
+    //@@author adjscent
+    /**
+     * Adds a new TimePoll object whose options are the given meeting times.
+     */
+    public String addTimePoll(List<MeetingTime> meetingTimes) {
+        int id = polls.size() + 1;
+        TimePoll poll = new TimePoll(id, meetingTimes);
+        polls.add(poll);
+        return poll.displayPoll();
+    }
+
+    //@@author theJrLinguist
     /**
      * Gets a poll at the specified index
      */
@@ -289,14 +328,18 @@ public class Event {
 
     /**
      * Deletes a person from the event participant list and polls.
+     * Returns true if the event held the person.
      */
-    public void deletePerson(Person target) {
+    public boolean deletePerson(Person target) {
+        boolean changed = false;
         if (participantList.contains(target)) {
             participantList.remove(target);
+            changed = true;
         }
         for (AbstractPoll poll : polls) {
-            poll.deletePerson(target);
+            changed |= poll.deletePerson(target);
         }
+        return changed;
     }
 
     /**
@@ -405,6 +448,9 @@ public class Event {
         copy.endTime = endTime;
         copy.setParticipantList(participantList);
         copy.polls.addAll(copyPollList());
+        //@@author adjscent
+        copy.id = id;
+        //@@author theJrLinguist
         return copy;
     }
 
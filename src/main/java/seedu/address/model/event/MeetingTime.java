@@ -0,0 +1,76 @@
+//@@author adjscent
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+import seedu.address.model.person.Time;
+
+/**
+ * Represents a candidate start time for an event, scored by the weighted availability of its participants.
+ */
+public class MeetingTime {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private final LocalDate date;
+    private final Time startTime;
+    private final int score;
+    private final int totalWeight;
+
+    public MeetingTime(LocalDate date, Time startTime, int score, int totalWeight) {
+        requireAllNonNull(date, startTime);
+        this.date = date;
+        this.startTime = startTime;
+        this.score = score;
+        this.totalWeight = totalWeight;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Time getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the total weight of the participants who are free for the whole meeting.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    public int getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Returns the meeting time in the format of a time poll option.
+     */
+    public String getOption() {
+        return date.format(DATE_FORMAT) + " " + startTime.getStringRepresentation();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MeetingTime // instanceof handles nulls
+                && date.equals(((MeetingTime) other).date)
+                && startTime.getNumberRepresentation() == ((MeetingTime) other).startTime.getNumberRepresentation()
+                && score == ((MeetingTime) other).score
+                && totalWeight == ((MeetingTime) other).totalWeight);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, startTime.getNumberRepresentation(), score, totalWeight);
+    }
+
+    @Override
+    public String toString() {
+        return getOption() + " (" + score + "/" + totalWeight + ")";
+    }
+}
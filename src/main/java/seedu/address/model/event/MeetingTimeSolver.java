@@ -0,0 +1,133 @@
+//@@author adjscent
+package seedu.address.model.event;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Time;
+
+/**
+ * Finds the best start times for a meeting of a given length within a date range.
+ * A candidate scores the total weight of the participants who are free for the whole meeting,
+ * and only the top k candidates are kept in a bounded heap while the range is scanned.
+ */
+public class MeetingTimeSolver {
+    public static final int ORGANISER_WEIGHT = 3;
+    public static final int REQUIRED_WEIGHT = 2;
+    public static final int PARTICIPANT_WEIGHT = 1;
+
+    private static final long DAY_MASK = (1L << Schedule.HOUR) - 1;
+
+    // worst candidate first: lowest score, then latest date and time
+    private static final Comparator<MeetingTime> WORST_FIRST = Comparator
+            .comparingInt(MeetingTime::getScore)
+            .thenComparing(MeetingTime::getDate, Comparator.reverseOrder())
+            .thenComparing(meetingTime -> meetingTime.getStartTime().getNumberRepresentation(),
+                    Comparator.reverseOrder());
+
+    private final List<Person> participants = new ArrayList<>();
+    private final List<Integer> weights = new ArrayList<>();
+    private int totalWeight;
+
+    /**
+     * Adds a participant whose availability counts with the given weight.
+     */
+    public void addParticipant(Person person, int weight) {
+        requireNonNull(person);
+        participants.add(person);
+        weights.add(weight);
+        totalWeight += weight;
+    }
+
+    /**
+     * Returns a solver over the organiser and participants of the event, with the organiser and the participants
+     * named in {@code requiredNames} weighted higher than the rest.
+     */
+    public static MeetingTimeSolver forEvent(Event event, Collection<Name> requiredNames) {
+        requireNonNull(event);
+        requireNonNull(requiredNames);
+        MeetingTimeSolver solver = new MeetingTimeSolver();
+        Person organiser = event.getOrganiser();
+        if (organiser != null && !event.getParticipantList().contains(organiser)) {
+            solver.addParticipant(organiser, ORGANISER_WEIGHT);
+        }
+        for (Person person : event.getParticipantList()) {
+            if (person.equals(organiser)) {
+                solver.addParticipant(person, ORGANISER_WEIGHT);
+            } else if (requiredNames.contains(person.getName())) {
+                solver.addParticipant(person, REQUIRED_WEIGHT);
+            } else {
+                solver.addParticipant(person, PARTICIPANT_WEIGHT);
+            }
+        }
+        return solver;
+    }
+
+    /**
+     * Returns the k best start times from startDate to endDate inclusive for a meeting lasting
+     * {@code durationSlots} 30 minute slots, best first. Start times nobody is free for are left out.
+     */
+    public List<MeetingTime> solve(LocalDate startDate, LocalDate endDate, int durationSlots, int k) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        assert durationSlots > 0 && k > 0;
+
+        int[] scores = scoreWeek(durationSlots);
+        // never more candidates are kept than there are start times in the range
+        long candidates = (DAYS.between(startDate, endDate) + 1) * Schedule.HOUR;
+        PriorityQueue<MeetingTime> best = new PriorityQueue<>((int) Math.max(1, Math.min(k, candidates)),
+                WORST_FIRST);
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            int day = date.getDayOfWeek().getValue() - 1;
+            for (int time = 0; time < Schedule.HOUR; time++) {
+                int score = scores[Schedule.toIndex(day, time)];
+                // candidates are visited in time order, so a tie never beats a kept candidate
+                if (score == 0 || (best.size() == k && score <= best.peek().getScore())) {
+                    continue;
+                }
+                if (best.size() == k) {
+                    best.poll();
+                }
+                best.add(new MeetingTime(date, Time.of(time), score, totalWeight));
+            }
+        }
+
+        List<MeetingTime> result = new ArrayList<>(best);
+        result.sort(WORST_FIRST.reversed());
+        return result;
+    }
+
+    /**
+     * Returns the score of every start slot of the week, in one pass over the participants.
+     */
+    private int[] scoreWeek(int durationSlots) {
+        int[] scores = new int[Schedule.TOTAL];
+        for (int i = 0; i < participants.size(); i++) {
+            Schedule schedule = participants.get(i).getSchedule();
+            int weight = weights.get(i);
+            for (int day = 0; day < Schedule.DAY; day++) {
+                long free = ~schedule.getDayRow(day) & DAY_MASK;
+                // keep the start slots that are followed by enough free slots
+                long starts = free;
+                for (int shift = 1; shift < durationSlots && starts != 0; shift++) {
+                    starts &= free >>> shift;
+                }
+                while (starts != 0) {
+                    scores[Schedule.toIndex(day, Long.numberOfTrailingZeros(starts))] += weight;
+                    starts &= starts - 1;
+                }
+            }
+        }
+        return scores;
+    }
+}
@@ -148,13 +148,17 @@ public abstract class AbstractPoll {
 
     /**
      * Deletes a person from the voter lists in the poll data.
+     * Returns true if the person voted in the poll.
      */
-    public void deletePerson(Person target) {
+    public boolean deletePerson(Person target) {
+        boolean changed = false;
         for (Map.Entry<String, UniquePersonList> entry : pollData.entrySet()) {
             if (entry.getValue().contains(target)) {
                 entry.getValue().remove(target);
+                changed = true;
             }
         }
+        return changed;
     }
 
     /**
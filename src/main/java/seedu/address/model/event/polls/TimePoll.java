@@ -6,28 +6,57 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import seedu.address.model.event.MeetingTime;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Slot;
+import seedu.address.model.person.SlotBusyCounter;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * Represents a time poll associated with an event.
+ * For a poll over a date range, the busy slots of the participants are counted as they join,
+ * leave or edit their schedules, and the options are re-derived from the counts when next read.
  */
 public class TimePoll extends AbstractPoll {
     private static final String TIMEPOLL_NAME = "Time Poll";
-    private Schedule sharedSchedule;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private SlotBusyCounter busyCounter;
+    // the schedule counted for each participant, keyed by name and password, so later edits can be diffed against it
+    private HashMap<Person, Schedule> countedSchedules = new HashMap<>();
+    private boolean isStale;
 
     /**
      * Constructs a TimePoll from the participant list, and the relevant date range.
      */
     public TimePoll(int id, UniquePersonList participantList, LocalDate startDate, LocalDate endDate) {
         super(id, TIMEPOLL_NAME, new HashMap<>());
-        createSharedSchedule(participantList);
-        createOptions(startDate, endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        busyCounter = new SlotBusyCounter();
+        for (Person person : participantList) {
+            addParticipant(person);
+        }
+        isStale = true;
+        refreshOptions();
+    }
+
+    //@@author adjscent
+    /**
+     * Constructs a TimePoll with only the given meeting times as options.
+     */
+    public TimePoll(int id, List<MeetingTime> meetingTimes) {
+        super(id, TIMEPOLL_NAME, new HashMap<>());
+        for (MeetingTime meetingTime : meetingTimes) {
+            pollData.put(meetingTime.getOption(), new UniquePersonList());
+        }
     }
 
+    //@@author theJrLinguist
     /**
      * Create a TimePoll without options.
      */
@@ -36,45 +65,106 @@ public class TimePoll extends AbstractPoll {
     }
 
     /**
-     * Creates the poll options based on the schedules of the participants.
+     * Counts the schedule of a new event participant.
+     * Polls with fixed meeting times are not affected.
      */
-    private void createOptions(LocalDate startDate, LocalDate endDate) {
-        List<LocalDate> dates = startDate.datesUntil(endDate).collect(Collectors.toList());
-        for (LocalDate date : dates) {
-            ArrayList<String> options = createOptionsFromDate(date);
-            for (String option : options) {
-                UniquePersonList voterList = new UniquePersonList();
-                pollData.put(option, voterList);
-            }
+    public void addParticipant(Person person) {
+        if (busyCounter == null || countedSchedules.containsKey(person)) {
+            return;
         }
+        Schedule schedule = person.getSchedule();
+        countedSchedules.put(person, schedule);
+        busyCounter.add(schedule);
+        isStale = true;
     }
 
     /**
-     * Creates the shared schedule based on the schedules of all the event participants.
+     * Updates the person in the poll votes, and recounts the changed slots of the person's schedule.
      */
-    private void createSharedSchedule(UniquePersonList participantList) {
-        ArrayList<Schedule> schedules = new ArrayList<>();
-        for (Person person : participantList) {
-            Schedule schedule = person.getSchedule();
-            schedules.add(schedule);
+    @Override
+    public void updatePerson(Person target, Person editedPerson) {
+        refreshOptions();
+        super.updatePerson(target, editedPerson);
+        if (busyCounter == null || !countedSchedules.containsKey(target)) {
+            return;
+        }
+        Schedule oldSchedule = countedSchedules.remove(target);
+        Schedule newSchedule = editedPerson.getSchedule();
+        countedSchedules.put(editedPerson, newSchedule);
+        if (!oldSchedule.equals(newSchedule)) {
+            busyCounter.replace(oldSchedule, newSchedule);
+            isStale = true;
+        }
+    }
+
+    /**
+     * Deletes a person from the voter lists, and uncounts the person's schedule.
+     */
+    @Override
+    public boolean deletePerson(Person target) {
+        refreshOptions();
+        boolean changed = super.deletePerson(target);
+        if (busyCounter == null || !countedSchedules.containsKey(target)) {
+            return changed;
         }
-        sharedSchedule = Schedule.maxSchedule(schedules.toArray(new Schedule[schedules.size()]));
+        busyCounter.remove(countedSchedules.remove(target));
+        isStale = true;
+        return true;
+    }
+
+    @Override
+    public HashMap<String, UniquePersonList> getPollData() {
+        refreshOptions();
+        return super.getPollData();
+    }
+
+    @Override
+    public void addVote(String option, Person person) throws IllegalArgumentException, DuplicatePersonException {
+        refreshOptions();
+        super.addVote(option, person);
+    }
+
+    @Override
+    public String displayPoll() {
+        refreshOptions();
+        return super.displayPoll();
     }
 
     /**
-     * Creates the options given a single date.
+     * Re-derives the options from the busy counts if they changed since the options were last derived.
+     * Votes on options that are still free are kept.
      */
-    private ArrayList<String> createOptionsFromDate(LocalDate date) {
-        Integer dayOfWeek = date.getDayOfWeek().getValue();
-        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-        String dateString = date.format(dateFormat);
-        List<String> times = sharedSchedule.getFreeSlotsByDay(dayOfWeek)
-                .stream()
-                .map(slot -> slot.getTime().getStringRepresentation())
-                .collect(Collectors.toList());
+    private void refreshOptions() {
+        if (busyCounter == null || !isStale) {
+            return;
+        }
+        HashMap<String, UniquePersonList> newData = new HashMap<>();
+        Schedule sharedSchedule = busyCounter.getBusySchedule();
+        // every date on a weekday has the same free slots, so they are found once per weekday
+        List<List<Slot>> freeSlotsByDay = new ArrayList<>(Schedule.DAY);
+        for (int day = 1; day <= Schedule.DAY; day++) {
+            freeSlotsByDay.add(sharedSchedule.getFreeSlotsByDay(day));
+        }
+        for (LocalDate date = startDate; date.isBefore(endDate); date = date.plusDays(1)) {
+            ArrayList<String> options = createOptionsFromDate(date,
+                    freeSlotsByDay.get(date.getDayOfWeek().getValue() - 1));
+            for (String option : options) {
+                UniquePersonList voterList = pollData.get(option);
+                newData.put(option, voterList == null ? new UniquePersonList() : voterList);
+            }
+        }
+        pollData = newData;
+        isStale = false;
+    }
+
+    /**
+     * Creates the options given a single date and its free slots.
+     */
+    private ArrayList<String> createOptionsFromDate(LocalDate date, List<Slot> freeSlots) {
+        String dateString = date.format(DATE_FORMAT);
         ArrayList<String> options = new ArrayList<>();
-        for (String time : times) {
-            String option = dateString + " " + time;
+        for (Slot slot : freeSlots) {
+            String option = dateString + " " + slot.getTime().getStringRepresentation();
             options.add(option);
         }
         return options;
@@ -85,8 +175,15 @@ public class TimePoll extends AbstractPoll {
      */
     @Override
     public TimePoll copy() {
+        refreshOptions();
         TimePoll copy = new TimePoll(id);
         copy.pollData = copyData();
+        if (busyCounter != null) {
+            copy.startDate = startDate;
+            copy.endDate = endDate;
+            copy.busyCounter = busyCounter.copy();
+            copy.countedSchedules = new HashMap<>(countedSchedules);
+        }
         return copy;
     }
 }
@@ -0,0 +1,144 @@
+//@@author adjscent
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * Counts how many of a group of persons are busy in each slot of the weekly schedule.
+ * Schedules are added into bit-sliced counters, so 64 slots are counted at once per word
+ * instead of looping over every person for every slot.
+ *
+ * @author adjscent
+ */
+public class AvailabilityHeatmap {
+
+    private static final String HEAT_CELL = "<td style='background-color:rgba(40,167,69,%.2f)'>%d</td>";
+
+    // counterPlanes.get(p)[w] holds bit p of the busy counts of the 64 slots in word w
+    private final ArrayList<long[]> counterPlanes = new ArrayList<>();
+    private final int[] busyCounts = new int[Schedule.TOTAL];
+    private int personCount;
+
+    public AvailabilityHeatmap(Iterable<Person> persons) {
+        requireNonNull(persons);
+        for (Person person : persons) {
+            addSchedule(person.getSchedule());
+        }
+        extractCounts();
+    }
+
+    /**
+     * Adds a schedule into the counters with a word-wise ripple carry
+     *
+     * @param schedule
+     */
+    private void addSchedule(Schedule schedule) {
+        personCount++;
+        for (int w = 0; w < Schedule.WORDS; w++) {
+            long carry = schedule.getWord(w);
+            for (int p = 0; carry != 0 && p < counterPlanes.size(); p++) {
+                long[] plane = counterPlanes.get(p);
+                long overflow = plane[w] & carry;
+                plane[w] ^= carry;
+                carry = overflow;
+            }
+            if (carry != 0) {
+                long[] plane = new long[Schedule.WORDS];
+                plane[w] = carry;
+                counterPlanes.add(plane);
+            }
+        }
+    }
+
+    /**
+     * Reads the per slot busy counts out of the counter planes
+     */
+    private void extractCounts() {
+        for (int p = 0; p < counterPlanes.size(); p++) {
+            long[] plane = counterPlanes.get(p);
+            for (int w = 0; w < Schedule.WORDS; w++) {
+                long word = plane[w];
+                while (word != 0) {
+                    int index = w * Long.SIZE + Long.numberOfTrailingZeros(word);
+                    busyCounts[index] += 1 << p;
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of persons aggregated
+     *
+     * @return
+     */
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns the number of persons busy in the slot
+     *
+     * @param slot
+     * @return
+     */
+    public int getBusyCount(Slot slot) {
+        return busyCounts[slot.getIndex()];
+    }
+
+    /**
+     * Returns the number of persons free in the slot
+     *
+     * @param slot
+     * @return
+     */
+    public int getFreeCount(Slot slot) {
+        return personCount - getBusyCount(slot);
+    }
+
+    /**
+     * Returns a schedule whose free slots are exactly those where at least minFree persons are free
+     *
+     * @param minFree
+     * @return
+     */
+    public Schedule getScheduleWithMinFree(int minFree) {
+        long[] words = new long[Schedule.WORDS];
+        int maxBusy = personCount - minFree;
+        for (int i = 0; i < Schedule.TOTAL; i++) {
+            if (busyCounts[i] > maxBusy) {
+                words[i / Long.SIZE] |= 1L << i;
+            }
+        }
+        return Schedule.fromWords(words);
+    }
+
+    /**
+     * Pretty printing into table format, shading each slot by the number of persons free
+     *
+     * @return
+     */
+    public String prettyPrint() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<tr>");
+        sb.append("<th></th>");
+        for (int i = 0; i < Schedule.DAY; i++) {
+            sb.append("<th>" + Day.VALIDDAYS[i].substring(0, 3) + "</th>");
+        }
+        sb.append("</tr>");
+        for (int i = 0; i < Schedule.HOUR; i++) {
+            sb.append("<tr>");
+            sb.append("<td>" + String.format("%02d", i / 2) + (i % 2 == 0 ? "00" : "30") + "</td>");
+            for (int j = 0; j < Schedule.DAY; j++) {
+                int free = personCount - busyCounts[Schedule.toIndex(j, i)];
+                double heat = personCount == 0 ? 0 : (double) free / personCount;
+                sb.append(String.format(Locale.ROOT, HEAT_CELL, heat, free));
+            }
+            sb.append("</tr>");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,155 @@
+//@@author adjscent
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * An inverted index from each slot of the weekly schedule to the persons free in it.
+ * Every indexed person is given an ordinal, and each slot keeps a bitset of the ordinals free in that slot,
+ * so the persons free over a range of slots are found by intersecting the bitsets of the range.
+ *
+ * @author adjscent
+ */
+public class AvailabilityIndex {
+    private final BitSet[] freeOrdinals = new BitSet[Schedule.TOTAL];
+    private final ArrayList<Person> persons = new ArrayList<>();
+    // the ordinal of each indexed person
+    private final HashMap<Person, Integer> ordinals = new HashMap<>();
+    private final ArrayDeque<Integer> releasedOrdinals = new ArrayDeque<>();
+
+    public AvailabilityIndex() {
+        for (int i = 0; i < Schedule.TOTAL; i++) {
+            freeOrdinals[i] = new BitSet();
+        }
+    }
+
+    public AvailabilityIndex(Iterable<Person> persons) {
+        this();
+        reset(persons);
+    }
+
+    /**
+     * Replaces the indexed persons with {@code persons}
+     *
+     * @param newPersons
+     */
+    public void reset(Iterable<Person> newPersons) {
+        requireNonNull(newPersons);
+        for (BitSet bits : freeOrdinals) {
+            bits.clear();
+        }
+        persons.clear();
+        ordinals.clear();
+        releasedOrdinals.clear();
+        for (Person person : newPersons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Indexes the free slots of a person
+     *
+     * @param person
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        assert !ordinals.containsKey(person);
+        int ordinal;
+        if (releasedOrdinals.isEmpty()) {
+            ordinal = persons.size();
+            persons.add(person);
+        } else {
+            ordinal = releasedOrdinals.pop();
+            persons.set(ordinal, person);
+        }
+        ordinals.put(person, ordinal);
+        setFreeSlots(ordinal, person.getSchedule());
+    }
+
+    /**
+     * Removes a person from the index, releasing the ordinal for reuse
+     *
+     * @param person
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+        clearFreeSlots(ordinal);
+        persons.set(ordinal, null);
+        releasedOrdinals.push(ordinal);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}, keeping the ordinal.
+     * Only the slots that differ between the old and new schedules are rewritten.
+     *
+     * @param target
+     * @param editedPerson
+     */
+    public void update(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        Integer ordinal = ordinals.remove(target);
+        if (ordinal == null) {
+            add(editedPerson);
+            return;
+        }
+        Schedule newSchedule = editedPerson.getSchedule();
+        Schedule changed = persons.get(ordinal).getSchedule().xor(newSchedule);
+        for (int i = changed.nextOccupiedSlot(0); i != -1; i = changed.nextOccupiedSlot(i + 1)) {
+            freeOrdinals[i].set(ordinal, !newSchedule.isOccupied(i));
+        }
+        persons.set(ordinal, editedPerson);
+        ordinals.put(editedPerson, ordinal);
+    }
+
+    private void setFreeSlots(int ordinal, Schedule schedule) {
+        for (int i = schedule.nextFreeSlot(0); i != -1; i = schedule.nextFreeSlot(i + 1)) {
+            freeOrdinals[i].set(ordinal);
+        }
+    }
+
+    private void clearFreeSlots(int ordinal) {
+        for (BitSet bits : freeOrdinals) {
+            bits.clear(ordinal);
+        }
+    }
+
+    /**
+     * Returns the persons free in every slot from {@code fromIndex} to before {@code toIndex}, in ordinal order
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @return
+     */
+    public List<Person> getFreePersons(int fromIndex, int toIndex) {
+        assert (fromIndex >= 0 && fromIndex < toIndex && toIndex <= Schedule.TOTAL);
+        BitSet free = (BitSet) freeOrdinals[fromIndex].clone();
+        for (int i = fromIndex + 1; i < toIndex && !free.isEmpty(); i++) {
+            free.and(freeOrdinals[i]);
+        }
+        ArrayList<Person> result = new ArrayList<>();
+        for (int ordinal = free.nextSetBit(0); ordinal != -1; ordinal = free.nextSetBit(ordinal + 1)) {
+            result.add(persons.get(ordinal));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of persons indexed
+     *
+     * @return
+     */
+    public int size() {
+        return ordinals.size();
+    }
+}
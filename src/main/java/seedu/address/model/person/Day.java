@@ -4,7 +4,7 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.person.Schedule.INVALID_MESSAGE_SCHEDULE;
 
-import java.util.Arrays;
+import java.util.HashMap;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -15,26 +15,66 @@ public class Day {
     public static final String[] VALIDDAYS =
         {"monday", "tuesday", "wednesday", "thursday", "friday", "saturday", "sunday"};
 
-    private String value;
+    // Shared immutable instances, one per day, looked up by index or lower case name
+    private static final Day[] DAYS = new Day[VALIDDAYS.length];
+    private static final HashMap<String, Integer> INDEXES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < VALIDDAYS.length; i++) {
+            INDEXES.put(VALIDDAYS[i], i);
+            DAYS[i] = new Day(i);
+        }
+    }
+
+    private final String value;
+    private final int index;
 
     public Day(String value) throws ParseException {
-        setValue(value);
+        this(toIndex(value));
+    }
+
+    /**
+     * Creates the day of the day index
+     *
+     * @param index
+     */
+    private Day(int index) {
+        this.value = VALIDDAYS[index];
+        this.index = index;
     }
 
     /**
-     * Sets the day value and checks if it is correct.
+     * Returns the shared instance of the day index, where monday is 0
+     *
+     * @param index
+     * @return
+     */
+    public static Day of(int index) {
+        assert (index >= 0 && index < DAYS.length);
+        return DAYS[index];
+    }
+
+    /**
+     * Returns the shared instance of the day name, ignoring case
      *
      * @param value
+     * @return
      * @throws ParseException
      */
-    public void setValue(String value) throws ParseException {
+    public static Day of(String value) throws ParseException {
+        return DAYS[toIndex(value)];
+    }
+
+    /**
+     * Returns the index of the day name, ignoring case
+     */
+    private static int toIndex(String value) throws ParseException {
         requireNonNull(value);
-        String lcValue = value.toLowerCase();
-        if (Arrays.stream(VALIDDAYS).anyMatch(lcValue::equals)) {
-            this.value = lcValue;
-        } else {
+        Integer index = INDEXES.get(value.toLowerCase());
+        if (index == null) {
             throw new ParseException(INVALID_MESSAGE_SCHEDULE);
         }
+        return index;
     }
 
     /**
@@ -43,13 +83,7 @@ public class Day {
      * @return
      */
     public int getNumberRepresentation() {
-        for (int i = 0; i < VALIDDAYS.length; i++) {
-            if (VALIDDAYS[i].equalsIgnoreCase(value)) {
-                return i;
-            }
-        }
-        // This part should never be reached.
-        return -1;
+        return index;
     }
 
     /**
@@ -0,0 +1,105 @@
+//@@author adjscent
+package seedu.address.model.person;
+
+/**
+ * Represents a run of consecutive free slots on one day of the weekly schedule.
+ * The block starts at slot {@code start} and ends before slot {@code end}.
+ *
+ * @author adjscent
+ */
+public class FreeBlock {
+    private static final int MINUTES_PER_SLOT = 30;
+
+    private final int day;
+    private final int start;
+    private final int end;
+
+    /**
+     * Create a free block on the day index covering the slot indexes [start, end)
+     *
+     * @param day
+     * @param start
+     * @param end
+     */
+    public FreeBlock(int day, int start, int end) {
+        assert (day >= 0 && day < Schedule.DAY);
+        assert (start >= 0 && start < end && end <= Schedule.HOUR);
+        this.day = day;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the day index, where monday is 0
+     *
+     * @return
+     */
+    public int getDay() {
+        return day;
+    }
+
+    /**
+     * Returns the index of the first free slot
+     *
+     * @return
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the index of the slot after the last free slot
+     *
+     * @return
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the number of 30 minute slots in the block
+     *
+     * @return
+     */
+    public int getLength() {
+        return end - start;
+    }
+
+    /**
+     * Returns the length of the block in minutes
+     *
+     * @return
+     */
+    public int getDurationInMinutes() {
+        return getLength() * MINUTES_PER_SLOT;
+    }
+
+    /**
+     * Converts a slot index within a day into a 4 digit time, e.g. 17 to 0830
+     *
+     * @param time
+     * @return
+     */
+    public static String timeToString(int time) {
+        return String.format("%02d%02d", time / 2, (time % 2) * MINUTES_PER_SLOT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof FreeBlock // instanceof handles nulls
+            && day == ((FreeBlock) other).day
+            && start == ((FreeBlock) other).start
+            && end == ((FreeBlock) other).end); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Schedule.toIndex(day, start) * (Schedule.HOUR + 1) + end;
+    }
+
+    @Override
+    public String toString() {
+        return Day.VALIDDAYS[day] + "," + timeToString(start) + "-" + timeToString(end);
+    }
+}
@@ -0,0 +1,31 @@
+//@@author adjscent
+package seedu.address.model.person;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests whether a {@code Person} is one of the persons found free by an {@code AvailabilityIndex} lookup.
+ */
+public class IsFreePredicate implements Predicate<Person> {
+    private final HashSet<Friend> freePersons = new HashSet<>();
+
+    public IsFreePredicate(List<Person> freePersons) {
+        for (Person person : freePersons) {
+            this.freePersons.add(new Friend(person));
+        }
+    }
+
+    @Override
+    public boolean test(Person testedPerson) {
+        return freePersons.contains(new Friend(testedPerson));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IsFreePredicate // instanceof handles nulls
+                && freePersons.equals(((IsFreePredicate) other).freePersons)); // state check
+    }
+}
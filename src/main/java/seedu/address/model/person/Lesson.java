@@ -1,6 +1,8 @@
 //@@author adjscent
 package seedu.address.model.person;
 
+import java.util.Objects;
+
 /**
  * @author adjscent
  */
@@ -62,6 +64,29 @@ public class Lesson {
         return duration;
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Lesson)) {
+            return false;
+        }
+        Lesson otherLesson = (Lesson) other;
+        return Objects.equals(moduleCode, otherLesson.moduleCode)
+            && Objects.equals(classNo, otherLesson.classNo)
+            && Objects.equals(lessonType, otherLesson.lessonType)
+            && Objects.equals(weekText, otherLesson.weekText)
+            && Objects.equals(dayText, otherLesson.dayText)
+            && Objects.equals(startTime, otherLesson.startTime)
+            && Objects.equals(endTime, otherLesson.endTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(moduleCode, classNo, lessonType, weekText, dayText, startTime, endTime);
+    }
+
     @Override
     public String toString() {
         return String.format("%s %s %s %s %s %s %s",
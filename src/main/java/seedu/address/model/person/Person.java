@@ -18,6 +18,10 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    //@@author adjscent
+    public static final long NO_ID = -1;
+
+    //@@author
     // Identity fields
     private Name name;
     private Phone phone;
@@ -33,6 +37,11 @@ public class Person {
 
     private boolean isLoggedIn = false;
 
+    //@@author adjscent
+    // assigned by the address book holding the person, and kept across edits
+    private long id = NO_ID;
+    //@@author
+
     /**
      * Every field must be present and not null.
      */
@@ -97,6 +106,9 @@ public class Person {
         this.tags = new HashSet<>(other.tags);
         this.schedule = other.schedule;
         this.friends = new HashSet<>(other.friends);
+        //@@author adjscent
+        this.id = other.id;
+        //@@author
     }
 
     /**
@@ -112,6 +124,20 @@ public class Person {
         return name;
     }
 
+    //@@author adjscent
+    /**
+     * Returns the id that refers to this person in the address book, or {@code NO_ID} if it has none yet.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    //@@author
+
     public void setName(Name name) {
         this.name = name;
     }
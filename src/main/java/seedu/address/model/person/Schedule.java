@@ -5,11 +5,17 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Represents a schedule of a person, reflected as a 24h x 2-30min x 7 days - weekly schedule.
+ * The 336 slots are packed into 64 bit words so that set operations work a word at a time.
+ * Schedules are immutable: operations return a new schedule, or an operand itself when the result is unchanged,
+ * so persons, copies and undo snapshots can all share one instance.
  *
  * @author adjscent
  */
@@ -35,37 +41,147 @@ public class Schedule {
     public static final String MESSAGE_SCHEDULE_CONSTRAINTS =
         "Schedule should be in 0 or 1s and in correct length";
     public static final String INVALID_MESSAGE_SCHEDULE = "Invalid Schedule Input";
-    private static final int DAY = 7;
-    private static final int HOUR = 48;
-    private static final int TOTAL = DAY * HOUR;
+    public static final int DAY = 7;
+    public static final int HOUR = 48;
+    public static final int TOTAL = DAY * HOUR;
+    public static final int ALL_DAYS = (1 << DAY) - 1;
+    public static final int HEX_LENGTH = TOTAL / 4;
+
+    // 336 slots packed day by day into 64 bit words, bit (day * 48 + time) set means occupied
+    private static final int WORD_SIZE = Long.SIZE;
+    static final int WORDS = (TOTAL + WORD_SIZE - 1) / WORD_SIZE;
+    private static final long LAST_WORD_MASK = -1L >>> (WORDS * WORD_SIZE - TOTAL);
+    private static final long DAY_MASK = (1L << HOUR) - 1;
+    private static final int NIBBLES_PER_WORD = WORD_SIZE / 4;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    // below this many schedules, a parallel reduction costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    // fixed parts of the html table, so rendering only has to pick a cell per slot
+    private static final String BUSY_CELL = "<td class='table-danger'> </td>";
+    private static final String FREE_CELL = "<td> </td>";
+    private static final String TABLE_HEADER = buildTableHeader();
+    private static final String[] ROW_HEADERS = buildRowHeaders();
+    private static final int TABLE_CAPACITY = TABLE_HEADER.length()
+        + HOUR * (ROW_HEADERS[0].length() + DAY * BUSY_CELL.length() + "</tr>".length());
+    private static final int RENDER_CACHE_SIZE = 64;
+    // least recently used renderings, keyed by schedule content
+    private static final LinkedHashMap<Schedule, String> RENDER_CACHE =
+        new LinkedHashMap<Schedule, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Schedule, String> eldest) {
+                return size() > RENDER_CACHE_SIZE;
+            }
+        };
 
-    // 7 days 24 hours - 48 30mins
-    private final int[][] value;
+    private final long[] value;
 
     public Schedule() {
-        value = new int[DAY][HOUR];
+        value = new long[WORDS];
         assert (value != null);
     }
 
     public Schedule(String schedule) {
         requireNonNull(schedule);
 
-        value = new int[DAY][HOUR];
+        value = new long[WORDS];
         assert (value != null);
         assert (isValidSchedule(schedule));
 
-        for (int i = 0, counter = 0; i < value.length; i++) {
-            for (int j = 0; j < value[i].length; j++) {
-                value[i][j] = Integer.parseInt(schedule.charAt(counter) + "");
-                counter += 1;
+        for (int counter = 0; counter < TOTAL; counter++) {
+            if (schedule.charAt(counter) == '1') {
+                value[counter / WORD_SIZE] |= 1L << counter;
             }
         }
     }
 
+    private Schedule(long[] words) {
+        assert (words.length == WORDS);
+        value = words;
+    }
+
+    /**
+     * Wraps packed words, which must not be changed afterwards
+     *
+     * @param words
+     * @return
+     */
+    static Schedule fromWords(long[] words) {
+        return new Schedule(words);
+    }
+
     public static boolean isValidSchedule(String trimmedSchedule) {
         return trimmedSchedule.length() == TOTAL;
     }
 
+    /**
+     * Checks if the string is a schedule written by valueToHexString
+     *
+     * @param hexSchedule
+     * @return
+     */
+    public static boolean isValidHexSchedule(String hexSchedule) {
+        if (hexSchedule.length() != HEX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < HEX_LENGTH; i++) {
+            if (Character.digit(hexSchedule.charAt(i), 16) == -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads a schedule written by valueToHexString
+     *
+     * @param hexSchedule
+     * @return
+     */
+    public static Schedule fromHexString(String hexSchedule) {
+        requireNonNull(hexSchedule);
+        assert (isValidHexSchedule(hexSchedule));
+
+        long[] words = new long[WORDS];
+        for (int i = 0; i < HEX_LENGTH; i++) {
+            long nibble = Character.digit(hexSchedule.charAt(i), 16);
+            words[i / NIBBLES_PER_WORD] |= nibble << ((i % NIBBLES_PER_WORD) * 4);
+        }
+        return new Schedule(words);
+    }
+
+    /**
+     * Builds a schedule from the occupied slots of each day, given as the low 48 bits of a long per day
+     *
+     * @param rows
+     * @return
+     */
+    public static Schedule fromDayRows(long[] rows) {
+        assert (rows.length == DAY);
+        long[] words = new long[WORDS];
+        for (int day = 0; day < DAY; day++) {
+            long row = rows[day] & DAY_MASK;
+            int from = day * HOUR;
+            int offset = from % WORD_SIZE;
+            words[from / WORD_SIZE] |= row << offset;
+            if (offset + HOUR > WORD_SIZE) {
+                words[from / WORD_SIZE + 1] |= row >>> (WORD_SIZE - offset);
+            }
+        }
+        return new Schedule(words);
+    }
+
+    /**
+     * Returns the bit index of a day and time in the packed schedule
+     *
+     * @param day
+     * @param time
+     * @return index
+     */
+    public static int toIndex(int day, int time) {
+        return day * HOUR + time;
+    }
+
     /**
      * Accesses the internal schedule and check if specified day and time is occupied
      *
@@ -76,22 +192,49 @@ public class Schedule {
         // day Monday
         // time 0800
         assert (slot != null);
-        return value[slot.getDay().getNumberRepresentation()]
-            [slot.getTime().getNumberRepresentation()] == 1 ? true : false;
+        return isOccupied(slot.getIndex());
     }
 
     /**
-     * Check the internal schedule and set the vacancy of a specific day and time
+     * Returns the schedule with the vacancy of a specific day and time set
      *
      * @param slot
      * @param isoccupied
+     * @return
      */
-    public void setTimeDay(Slot slot, boolean isoccupied) throws ParseException {
+    public Schedule setTimeDay(Slot slot, boolean isoccupied) throws ParseException {
         // day Monday
         // time 0800
         assert (slot != null);
-        value[slot.getDay().getNumberRepresentation()]
-            [slot.getTime().getNumberRepresentation()] = isoccupied ? 1 : 0;
+        return setOccupied(slot.getIndex(), isoccupied);
+    }
+
+    /**
+     * Checks if the slot at the bit index is occupied
+     *
+     * @param index
+     * @return isoccupied
+     */
+    public boolean isOccupied(int index) {
+        assert (index >= 0 && index < TOTAL);
+        return (value[index / WORD_SIZE] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the schedule with the vacancy of the slot at the bit index set
+     *
+     * @param index
+     * @param isoccupied
+     * @return
+     */
+    public Schedule setOccupied(int index, boolean isoccupied) {
+        assert (index >= 0 && index < TOTAL);
+        if (isOccupied(index) == isoccupied) {
+            return this;
+        }
+        long[] words = value.clone();
+        words[index / WORD_SIZE] ^= 1L << index;
+        return new Schedule(words);
     }
 
     /**
@@ -100,39 +243,243 @@ public class Schedule {
      * @return
      */
     public String valueToString() {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < value.length; i++) {
-            for (int j = 0; j < value[i].length; j++) {
-                sb.append(value[i][j]);
-            }
+        StringBuilder sb = new StringBuilder(TOTAL);
+        for (int i = 0; i < TOTAL; i++) {
+            sb.append(isOccupied(i) ? '1' : '0');
         }
         return sb.toString();
     }
 
+    /**
+     * Allow schedule array to be stored as a hex string of 84 characters, 4 slots per character,
+     * the first character holding the first 4 slots
+     *
+     * @return
+     */
+    public String valueToHexString() {
+        char[] hex = new char[HEX_LENGTH];
+        for (int i = 0; i < HEX_LENGTH; i++) {
+            hex[i] = HEX_DIGITS[(int) (value[i / NIBBLES_PER_WORD] >>> ((i % NIBBLES_PER_WORD) * 4)) & 0xF];
+        }
+        return new String(hex);
+    }
+
     /**
      * ORs the Schedules
      *
      * @param schedule
+     * @return
      */
-    public void union(Schedule schedule) {
-        for (int i = 0; i < value.length; i++) {
-            for (int j = 0; j < value[i].length; j++) {
-                this.value[i][j] = (this.value[i][j] | schedule.value[i][j]);
-            }
+    public Schedule union(Schedule schedule) {
+        long[] words = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            words[i] = value[i] | schedule.value[i];
+        }
+        return share(words, schedule);
+    }
+
+    /**
+     * ANDs the Schedules, leaving only the slots occupied in both
+     *
+     * @param schedule
+     * @return
+     */
+    public Schedule intersect(Schedule schedule) {
+        long[] words = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            words[i] = value[i] & schedule.value[i];
         }
+        return share(words, schedule);
     }
 
     /**
      * Use the updateschedule as a bit flipper
+     *
+     * @param updateSchedule
+     * @return
+     */
+    public Schedule xor(Schedule updateSchedule) {
+        long[] words = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            words[i] = value[i] ^ updateSchedule.value[i];
+        }
+        return share(words, updateSchedule);
+    }
+
+    /**
+     * Frees every slot that is occupied in the given schedule
+     *
+     * @param schedule
+     * @return
+     */
+    public Schedule andNot(Schedule schedule) {
+        long[] words = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            words[i] = value[i] & ~schedule.value[i];
+        }
+        return share(words, schedule);
+    }
+
+    /**
+     * Returns this schedule or the other operand if either already holds the words, or else a new schedule
+     */
+    private Schedule share(long[] words, Schedule other) {
+        if (Arrays.equals(words, value)) {
+            return this;
+        }
+        if (Arrays.equals(words, other.value)) {
+            return other;
+        }
+        return new Schedule(words);
+    }
+
+    /**
+     * Returns the number of occupied slots
+     *
+     * @return count
+     */
+    public int countOccupiedSlots() {
+        int count = 0;
+        for (long word : value) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of free slots
+     *
+     * @return count
+     */
+    public int countFreeSlots() {
+        return TOTAL - countOccupiedSlots();
+    }
+
+    /**
+     * Returns the bit index of the first free slot at or after fromIndex, or -1 if there is none
+     *
+     * @param fromIndex
+     * @return index
      */
-    public void xor(Schedule updateSchedule) {
-        for (int i = 0; i < value.length; i++) {
-            for (int j = 0; j < value[i].length; j++) {
-                this.value[i][j] ^= (updateSchedule.value[i][j]);
+    public int nextFreeSlot(int fromIndex) {
+        if (fromIndex >= TOTAL) {
+            return -1;
+        }
+        int wordIndex = fromIndex / WORD_SIZE;
+        long word = freeWord(wordIndex) & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return wordIndex * WORD_SIZE + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == WORDS) {
+                return -1;
             }
+            word = freeWord(wordIndex);
         }
     }
 
+    /**
+     * Returns the bit index of the first occupied slot at or after fromIndex, or -1 if there is none
+     *
+     * @param fromIndex
+     * @return index
+     */
+    public int nextOccupiedSlot(int fromIndex) {
+        if (fromIndex >= TOTAL) {
+            return -1;
+        }
+        int wordIndex = fromIndex / WORD_SIZE;
+        long word = value[wordIndex] & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return wordIndex * WORD_SIZE + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == WORDS) {
+                return -1;
+            }
+            word = value[wordIndex];
+        }
+    }
+
+    /**
+     * Returns the packed word at the word index, for word-parallel aggregation within the package
+     */
+    long getWord(int wordIndex) {
+        return value[wordIndex];
+    }
+
+    /**
+     * Returns the occupied slots of a day as the low 48 bits of a long, bit i being time slot i
+     *
+     * @param day
+     * @return row
+     */
+    public long getDayRow(int day) {
+        int from = day * HOUR;
+        int wordIndex = from / WORD_SIZE;
+        int offset = from % WORD_SIZE;
+        long row = value[wordIndex] >>> offset;
+        if (offset + HOUR > WORD_SIZE) {
+            row |= value[wordIndex + 1] << (WORD_SIZE - offset);
+        }
+        return row & DAY_MASK;
+    }
+
+    /**
+     * Finds the runs of consecutive free slots lasting at least minSlots slots, on the days set in dayMask
+     * (bit 0 for monday) and lying within the time slots [windowStart, windowEnd) of each day.
+     * A day row is scanned a run at a time instead of slot by slot.
+     *
+     * @param minSlots
+     * @param dayMask
+     * @param windowStart
+     * @param windowEnd
+     * @return blocks in day then time order
+     */
+    public ArrayList<FreeBlock> findFreeBlocks(int minSlots, int dayMask, int windowStart, int windowEnd) {
+        assert (minSlots > 0);
+        assert (windowStart >= 0 && windowEnd <= HOUR);
+        ArrayList<FreeBlock> blocks = new ArrayList<>();
+        if (windowStart >= windowEnd) {
+            return blocks;
+        }
+        long window = (DAY_MASK >>> (HOUR - (windowEnd - windowStart))) << windowStart;
+
+        for (int day = 0; day < DAY; day++) {
+            if ((dayMask & (1 << day)) == 0) {
+                continue;
+            }
+            long free = ~getDayRow(day) & window;
+            while (free != 0) {
+                int start = Long.numberOfTrailingZeros(free);
+                int length = Long.numberOfTrailingZeros(~(free >>> start));
+                if (length >= minSlots) {
+                    blocks.add(new FreeBlock(day, start, start + length));
+                }
+                free &= -1L << (start + length);
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * Finds the runs of consecutive free slots lasting at least minSlots slots on any day
+     *
+     * @param minSlots
+     * @return blocks in day then time order
+     */
+    public ArrayList<FreeBlock> findFreeBlocks(int minSlots) {
+        return findFreeBlocks(minSlots, ALL_DAYS, 0, HOUR);
+    }
+
+    /**
+     * Returns the free slots of a word as set bits, ignoring the padding past the last slot
+     */
+    private long freeWord(int wordIndex) {
+        long free = ~value[wordIndex];
+        return wordIndex == WORDS - 1 ? free & LAST_WORD_MASK : free;
+    }
+
     /**
      * Maxs all possible schedules supplied as parameter
      *
@@ -140,21 +487,50 @@ public class Schedule {
      * @return
      */
     public static Schedule maxSchedule(Schedule... schedules) {
-        Schedule newSchedule = new Schedule();
+        long[] words = new long[WORDS];
 
         // using for each loop to display contents of a
         for (Schedule s : schedules) {
-            newSchedule.union(s);
+            orInto(words, s);
+        }
+
+        return new Schedule(words);
+    }
+
+    /**
+     * Maxs all schedules in the list, reducing them in parallel when there are many
+     *
+     * @param schedules
+     * @return
+     */
+    public static Schedule maxSchedule(List<Schedule> schedules) {
+        if (schedules.size() < PARALLEL_THRESHOLD) {
+            return maxSchedule(schedules.toArray(new Schedule[schedules.size()]));
         }
+        long[] words = schedules.parallelStream().collect(() -> new long[WORDS], Schedule::orInto, (left, right) -> {
+            for (int i = 0; i < WORDS; i++) {
+                left[i] |= right[i];
+            }
+        });
+        return new Schedule(words);
+    }
 
-        return newSchedule;
+    private static void orInto(long[] words, Schedule schedule) {
+        for (int i = 0; i < WORDS; i++) {
+            words[i] |= schedule.value[i];
+        }
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof Schedule // instanceof handles nulls
-            && Arrays.deepEquals(this.value, ((Schedule) other).value)); // state check
+            && Arrays.equals(this.value, ((Schedule) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(value);
     }
 
     /**
@@ -164,15 +540,10 @@ public class Schedule {
      * @throws ParseException
      */
     public ArrayList<Slot> getFreeSlots() {
-        ArrayList<Slot> slots = new ArrayList<Slot>();
+        ArrayList<Slot> slots = new ArrayList<Slot>(countFreeSlots());
 
-        for (int i = 0; i < value.length; i++) {
-            for (int j = 0; j < value[i].length; j++) {
-                if (this.value[i][j] == 0) {
-                    Slot slot = new Slot(i, j);
-                    slots.add(slot);
-                }
-            }
+        for (int i = nextFreeSlot(0); i != -1; i = nextFreeSlot(i + 1)) {
+            slots.add(Slot.of(i));
         }
 
         return slots;
@@ -185,13 +556,11 @@ public class Schedule {
      * @throws ParseException
      */
     public ArrayList<Slot> getFreeSlotsByDay(int day) {
-        ArrayList<Slot> slots = getFreeSlots();
         ArrayList<Slot> filteredSlots = new ArrayList<>();
-        for (Slot slot : slots) {
-            if (slot.getDay().getStringRepresentation()
-                .equalsIgnoreCase(Day.VALIDDAYS[(day - 1)])) {
-                filteredSlots.add(slot);
-            }
+        int end = toIndex(day, 0);
+
+        for (int i = nextFreeSlot(toIndex(day - 1, 0)); i != -1 && i < end; i = nextFreeSlot(i + 1)) {
+            filteredSlots.add(Slot.of(i));
         }
 
         return filteredSlots;
@@ -204,14 +573,13 @@ public class Schedule {
      * @throws ParseException
      */
     public ArrayList<Slot> getFreeSlotsByTime(Time startTime, Time endTime) {
-        ArrayList<Slot> slots = getFreeSlots();
         ArrayList<Slot> filteredSlots = new ArrayList<>();
 
-        for (Slot slot : slots) {
-            int time = slot.getTime().getComparsionRepresentation();
+        for (int i = nextFreeSlot(0); i != -1; i = nextFreeSlot(i + 1)) {
+            int time = Time.of(i % HOUR).getComparsionRepresentation();
             if (time >= startTime.getComparsionRepresentation()
                 && time <= endTime.getComparsionRepresentation()) {
-                filteredSlots.add(slot);
+                filteredSlots.add(Slot.of(i));
             }
         }
         return filteredSlots;
@@ -232,6 +600,18 @@ public class Schedule {
         return sb.toString().trim();
     }
 
+    /**
+     * Pretty Print free blocks of at least minSlots slots within [windowStart, windowEnd) to string
+     *
+     * @return
+     */
+    public String freeBlocksToString(int minSlots, int windowStart, int windowEnd) {
+        StringBuilder sb = new StringBuilder();
+        findFreeBlocks(minSlots, ALL_DAYS, windowStart, windowEnd)
+            .forEach((block) -> sb.append(block.toString() + "; "));
+        return sb.toString().trim();
+    }
+
     /**
      * Pretty Print free time to strig
      *
@@ -240,49 +620,74 @@ public class Schedule {
      */
     public String freeTimeToString() {
         StringBuilder sb = new StringBuilder();
-        getFreeSlots().forEach((slot) -> sb.append(slot.getDay()
-            .getStringRepresentation() + "," + slot.getTime()
-            .getStringRepresentation() + "; "));
+        for (int i = nextFreeSlot(0); i != -1; i = nextFreeSlot(i + 1)) {
+            Slot slot = Slot.of(i);
+            sb.append(slot.getDay().getStringRepresentation()).append(',')
+                .append(slot.getTime().getStringRepresentation()).append("; ");
+        }
         return sb.toString().trim();
     }
 
     /**
-     * Pretty printing into table format
+     * Pretty printing into table format. Renderings are cached by schedule content,
+     * so reselecting an unchanged schedule does not rebuild the table.
      *
      * @return
      */
     public String prettyPrint() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("<tr>");
-        sb.append("<th></th>");
-        for (int i = 0; i < 7; i++) {
-            sb.append("<th>" + Day.VALIDDAYS[i].substring(0, 3) + "</th>");
-        }
-        sb.append("</tr>");
-        int oddatinator = 0;
-        int hourcounter = 0;
-        for (int i = 0; i < value[0].length; i++) {
-            sb.append("<tr>");
-            if (oddatinator % 2 == 0) {
-                sb.append("<td>" + String.format("%02d", hourcounter) + "00</td>");
-                oddatinator++;
-            } else {
-                sb.append("<td>" + String.format("%02d", hourcounter) + "30</td>");
-                hourcounter++;
-                oddatinator++;
+        synchronized (RENDER_CACHE) {
+            String table = RENDER_CACHE.get(this);
+            if (table == null) {
+                table = renderTable();
+                RENDER_CACHE.put(this, table);
             }
+            return table;
+        }
+    }
 
+    /**
+     * Drops the cached table of the schedule, used when a person's schedule is replaced by an edit
+     *
+     * @param schedule
+     */
+    public static void evictRendering(Schedule schedule) {
+        requireNonNull(schedule);
+        synchronized (RENDER_CACHE) {
+            RENDER_CACHE.remove(schedule);
+        }
+    }
 
-            for (int j = 0; j < value.length; j++) {
-
-                if (this.value[j][i] == 1) {
-                    sb.append("<td class='table-danger'> </td>");
-                } else {
-                    sb.append("<td> </td>");
-                }
+    /**
+     * Builds the table from the precomputed header and cell fragments
+     *
+     * @return
+     */
+    private String renderTable() {
+        StringBuilder sb = new StringBuilder(TABLE_CAPACITY);
+        sb.append(TABLE_HEADER);
+        for (int i = 0; i < HOUR; i++) {
+            sb.append(ROW_HEADERS[i]);
+            for (int j = 0; j < DAY; j++) {
+                sb.append(isOccupied(toIndex(j, i)) ? BUSY_CELL : FREE_CELL);
             }
             sb.append("</tr>");
         }
         return sb.toString();
     }
+
+    private static String buildTableHeader() {
+        StringBuilder sb = new StringBuilder("<tr><th></th>");
+        for (int i = 0; i < DAY; i++) {
+            sb.append("<th>").append(Day.VALIDDAYS[i], 0, 3).append("</th>");
+        }
+        return sb.append("</tr>").toString();
+    }
+
+    private static String[] buildRowHeaders() {
+        String[] headers = new String[HOUR];
+        for (int i = 0; i < HOUR; i++) {
+            headers[i] = "<tr><td>" + FreeBlock.timeToString(i) + "</td>";
+        }
+        return headers;
+    }
 }
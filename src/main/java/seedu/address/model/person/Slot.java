@@ -9,8 +9,17 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * @author adjscent
  */
 public class Slot {
-    private Day day;
-    private Time time;
+    // Shared immutable instances, one per slot of the weekly schedule
+    private static final Slot[] SLOTS = new Slot[Schedule.TOTAL];
+
+    static {
+        for (int i = 0; i < SLOTS.length; i++) {
+            SLOTS[i] = new Slot(Day.of(i / Schedule.HOUR), Time.of(i % Schedule.HOUR));
+        }
+    }
+
+    private final Day day;
+    private final Time time;
 
     /**
      * Create a slot with day and time input
@@ -20,69 +29,60 @@ public class Slot {
      * @throws ParseException
      */
     public Slot(String day, String time) throws ParseException {
-        this.day = new Day(day);
-        this.time = new Time(time);
+        this(Day.of(day), Time.of(time));
     }
 
+    private Slot(Day day, Time time) {
+        this.day = day;
+        this.time = time;
+    }
 
     /**
-     * Internal use only
-     * Create a slot with day and time input
+     * Returns the shared instance of the bit index in the schedule
      *
-     * @param day
-     * @param time
+     * @param index
+     * @return
      */
-    Slot(int day, int time) {
-        try {
-            this.day = new Day(Day.VALIDDAYS[day]);
-
-            if (time / 2 > 9) {
-                this.time = new Time("" + time / 2 + ((time % 2 == 1) ? "30" : "00"));
-            } else {
-                this.time = new Time("0" + time / 2 + ((time % 2 == 1) ? "30" : "00"));
-            }
-
-        } catch (ParseException e) {
-            // Note this is only used for internal ops.
-            // No errors should occur
-            e.printStackTrace();
-        }
+    public static Slot of(int index) {
+        assert (index >= 0 && index < SLOTS.length);
+        return SLOTS[index];
     }
 
     /**
-     * Returns the day
+     * Returns the shared instance of the day and time index
      *
+     * @param day
+     * @param time
      * @return
      */
-    public Day getDay() {
-        return day;
+    public static Slot of(int day, int time) {
+        return of(Schedule.toIndex(day, time));
     }
 
     /**
-     * Sets the day
+     * Returns the bit index of the slot in the schedule
      *
-     * @param day
+     * @return
      */
-    public void setDay(String day) throws ParseException {
-        this.day = new Day(day);
+    public int getIndex() {
+        return Schedule.toIndex(day.getNumberRepresentation(), time.getNumberRepresentation());
     }
 
     /**
-     * Returns time
+     * Returns the day
      *
      * @return
      */
-    public Time getTime() {
-        return time;
+    public Day getDay() {
+        return day;
     }
 
     /**
-     * Sets time
+     * Returns time
      *
-     * @param time
+     * @return
      */
-    public void setTime(String time) throws ParseException {
-        this.time = new Time(time);
+    public Time getTime() {
+        return time;
     }
 }
-
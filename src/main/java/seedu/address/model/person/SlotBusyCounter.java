@@ -0,0 +1,125 @@
+//@@author adjscent
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Keeps a running count of how many schedules are busy in each slot of the weekly schedule.
+ * Schedules can be added, removed and replaced one at a time, touching only their occupied slots,
+ * and the union of all counted schedules is maintained alongside the counts.
+ *
+ * @author adjscent
+ */
+public class SlotBusyCounter {
+    private final int[] busyCounts;
+    // packed like Schedule, a bit set wherever the count is not zero
+    private final long[] busyWords;
+    private int scheduleCount;
+
+    public SlotBusyCounter() {
+        busyCounts = new int[Schedule.TOTAL];
+        busyWords = new long[Schedule.WORDS];
+    }
+
+    private SlotBusyCounter(SlotBusyCounter toCopy) {
+        busyCounts = toCopy.busyCounts.clone();
+        busyWords = toCopy.busyWords.clone();
+        scheduleCount = toCopy.scheduleCount;
+    }
+
+    /**
+     * Counts the occupied slots of the schedule
+     *
+     * @param schedule
+     */
+    public void add(Schedule schedule) {
+        requireNonNull(schedule);
+        scheduleCount++;
+        for (int i = schedule.nextOccupiedSlot(0); i != -1; i = schedule.nextOccupiedSlot(i + 1)) {
+            increment(i);
+        }
+    }
+
+    /**
+     * Uncounts the occupied slots of a schedule that was added before
+     *
+     * @param schedule
+     */
+    public void remove(Schedule schedule) {
+        requireNonNull(schedule);
+        assert scheduleCount > 0;
+        scheduleCount--;
+        for (int i = schedule.nextOccupiedSlot(0); i != -1; i = schedule.nextOccupiedSlot(i + 1)) {
+            decrement(i);
+        }
+    }
+
+    /**
+     * Replaces a counted schedule with its edited version, only touching the slots that changed
+     *
+     * @param oldSchedule
+     * @param newSchedule
+     */
+    public void replace(Schedule oldSchedule, Schedule newSchedule) {
+        requireNonNull(oldSchedule);
+        requireNonNull(newSchedule);
+        Schedule changed = oldSchedule.xor(newSchedule);
+        for (int i = changed.nextOccupiedSlot(0); i != -1; i = changed.nextOccupiedSlot(i + 1)) {
+            if (newSchedule.isOccupied(i)) {
+                increment(i);
+            } else {
+                decrement(i);
+            }
+        }
+    }
+
+    private void increment(int index) {
+        if (busyCounts[index]++ == 0) {
+            busyWords[index / Long.SIZE] |= 1L << index;
+        }
+    }
+
+    private void decrement(int index) {
+        assert busyCounts[index] > 0;
+        if (--busyCounts[index] == 0) {
+            busyWords[index / Long.SIZE] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Returns the number of schedules counted
+     *
+     * @return
+     */
+    public int getScheduleCount() {
+        return scheduleCount;
+    }
+
+    /**
+     * Returns the number of counted schedules busy in the slot
+     *
+     * @param slot
+     * @return
+     */
+    public int getBusyCount(Slot slot) {
+        return busyCounts[slot.getIndex()];
+    }
+
+    /**
+     * Returns a schedule occupied wherever at least one counted schedule is busy
+     *
+     * @return
+     */
+    public Schedule getBusySchedule() {
+        return Schedule.fromWords(busyWords.clone());
+    }
+
+    /**
+     * Returns an independent copy of the counter
+     *
+     * @return
+     */
+    public SlotBusyCounter copy() {
+        return new SlotBusyCounter(this);
+    }
+}
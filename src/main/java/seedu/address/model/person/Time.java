@@ -10,21 +10,26 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Class to hold time values to be used by Schedule
  */
 public class Time {
-    private int intValue;
-    private String stringValue;
-    private int forComparsionValue;
+    // Shared immutable instances, one per 30 minute slot of the day
+    private static final Time[] TIMES = new Time[Schedule.HOUR];
 
-    public Time(String value) throws ParseException {
-        setValue(value);
+    static {
+        for (int i = 0; i < TIMES.length; i++) {
+            TIMES[i] = new Time(i);
+        }
     }
 
+    private final int intValue;
+    private final String stringValue;
+    private final int forComparsionValue;
+
     /**
-     * Sets the time value and generates comparsionValue, intValue
+     * Creates the time and generates comparsionValue, intValue
      *
      * @param value
      * @throws ParseException
      */
-    public void setValue(String value) throws ParseException {
+    public Time(String value) throws ParseException {
         requireNonNull(value);
 
         if (value.length() != 4) {
@@ -50,6 +55,47 @@ public class Time {
         stringValue = value;
     }
 
+    /**
+     * Creates the shared instance of the slot index
+     *
+     * @param index
+     */
+    private Time(int index) {
+        forComparsionValue = index / 2 * 100 + (index % 2) * 30;
+        intValue = index;
+        stringValue = String.format("%04d", forComparsionValue);
+    }
+
+    /**
+     * Returns the shared instance of the slot index, e.g. 17 for 0830
+     *
+     * @param index
+     * @return
+     */
+    public static Time of(int index) {
+        assert (index >= 0 && index < TIMES.length);
+        return TIMES[index];
+    }
+
+    /**
+     * Returns the shared instance if the time is on a slot boundary, or a new time otherwise
+     *
+     * @param value
+     * @return
+     * @throws ParseException
+     */
+    public static Time of(String value) throws ParseException {
+        requireNonNull(value);
+        if (value.length() == 4 && value.charAt(3) == '0'
+            && (value.charAt(2) == '0' || value.charAt(2) == '3')) {
+            int index = (value.charAt(0) - '0') * 20 + (value.charAt(1) - '0') * 2 + (value.charAt(2) == '3' ? 1 : 0);
+            if (index >= 0 && index < TIMES.length && TIMES[index].stringValue.equals(value)) {
+                return TIMES[index];
+            }
+        }
+        return new Time(value);
+    }
+
     /**
      * Get the comparsion value which is useful for comparing time
      *
@@ -4,6 +4,7 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -33,6 +34,12 @@ public class TimeTable {
      * UCV2209 01 Seminar-Style Module Class Every Week Thursday 1200 1400
      */
 
+    // NUS runs a few thousand distinct lessons a semester
+    private static final int MAX_CACHED_LESSONS = 20000;
+
+    // weekly masks of the lessons converted so far, shared by every timetable in the session
+    private static final ConcurrentHashMap<Lesson, Schedule> LESSON_MASKS = new ConcurrentHashMap<>();
+
     private ArrayList<Lesson> lessonList;
 
     /**
@@ -48,32 +55,46 @@ public class TimeTable {
      * @return
      */
     public Schedule convertToSchedule() throws ParseException {
-        Schedule schedule = new Schedule();
-
-        for (Lesson lesson : lessonList) {
-            int start = Integer.parseInt(lesson.getStartTime().substring(0, 2));
-            int duration = lesson.getDuration();
-
-            while (duration > 0) {
-                String startime1;
-                String startime2;
-                if (start > 9) {
-                    startime1 = start + "00";
-                    startime2 = start + "30";
-                } else {
-                    startime1 = "0" + start + "00";
-                    startime2 = "0" + start + "30";
-                }
-                Slot slot1 = new Slot(lesson.getDayText(), startime1);
-                Slot slot2 = new Slot(lesson.getDayText(), startime2);
-                schedule.setTimeDay(slot1, true);
-                schedule.setTimeDay(slot2, true);
-                start++;
-                duration--;
-            }
+        Schedule[] masks = new Schedule[lessonList.size()];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = getLessonMask(lessonList.get(i));
+        }
+        return Schedule.maxSchedule(masks);
+    }
+
+    /**
+     * Returns the weekly schedule occupied by the lesson alone.
+     * Masks are cached for the session, so a lesson taken by many users is only converted once.
+     * @param lesson
+     * @return
+     */
+    static Schedule getLessonMask(Lesson lesson) throws ParseException {
+        Schedule mask = LESSON_MASKS.get(lesson);
+        if (mask != null) {
+            return mask;
         }
 
-        return schedule;
+        long[] rows = new long[Schedule.DAY];
+        rows[Day.of(lesson.getDayText()).getNumberRepresentation()] = toRow(lesson);
+        mask = Schedule.fromDayRows(rows);
+        if (LESSON_MASKS.size() >= MAX_CACHED_LESSONS) {
+            LESSON_MASKS.clear();
+        }
+        LESSON_MASKS.put(lesson, mask);
+        return mask;
+    }
+
+    /**
+     * Returns the time slots taken by the lesson as bits of a day, rounded to whole hours
+     */
+    private static long toRow(Lesson lesson) throws ParseException {
+        int start = Integer.parseInt(lesson.getStartTime().substring(0, 2)) * 2;
+        int end = start + lesson.getDuration() * 2;
+
+        if (end > Schedule.HOUR) {
+            throw new ParseException(Schedule.INVALID_MESSAGE_SCHEDULE);
+        }
+        return end <= start ? 0 : (-1L >>> (Long.SIZE - (end - start))) << start;
     }
 
 
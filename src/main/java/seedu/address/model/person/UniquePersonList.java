@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -20,19 +22,26 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The position of each person is indexed by its identity, so finding a person takes constant time.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    //@@author adjscent
+    // the position of each person in internalList, changed along with internalList
+    private final Map<Person, Integer> positions = new HashMap<>();
 
+    //@@author
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        //@@author adjscent
+        return positions.containsKey(toCheck);
+        //@@author
     }
 
     /**
@@ -44,6 +53,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        //@@author adjscent
+        positions.put(toAdd, internalList.size());
+        //@@author
         internalList.add(toAdd);
     }
 
@@ -55,15 +67,21 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        //@@author adjscent
+        Integer index = positions.get(target);
+        if (index == null) {
             throw new PersonNotFoundException();
         }
+        //@@author
 
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
+        //@@author adjscent
+        positions.remove(target);
+        positions.put(editedPerson, index);
+        //@@author
         internalList.set(index, editedPerson);
     }
 
@@ -73,13 +91,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        //@@author adjscent
+        Integer index = positions.remove(toRemove);
+        if (index == null) {
             throw new PersonNotFoundException();
         }
+        internalList.remove((int) index);
+        // the persons after it move up by one
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        //@@author
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        //@@author adjscent
+        positions.clear();
+        positions.putAll(replacement.positions);
+        //@@author
         internalList.setAll(replacement.internalList);
     }
 
@@ -89,10 +119,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        //@@author adjscent
+        Map<Person, Integer> newPositions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (newPositions.putIfAbsent(persons.get(i), i) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
+        positions.clear();
+        positions.putAll(newPositions);
+        //@@author
         internalList.setAll(persons);
     }
 
@@ -120,20 +157,6 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
     /**
      * Returns the list of names of people who joined the event in a string.
      */
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +43,17 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the storage, where only {@code changes} differ from the
+     * address book saved last.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, AddressBookChanges changes) throws IOException;
+
+    /**
+     * Writes out any saved data that the storage still holds back, e.g. before the app exits.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
 }
@@ -0,0 +1,141 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk.
+ * The binary file of {@code data/addressbook.xml} is {@code data/addressbook.bin}.
+ *
+ * @author adjscent
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    private static final String XML_FILE_EXTENSION = ".xml";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the binary file kept beside the xml file {@code xmlFilePath}
+     */
+    public static Path getBinaryFilePath(Path xmlFilePath) {
+        String fileName = xmlFilePath.getFileName().toString();
+        if (fileName.endsWith(XML_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - XML_FILE_EXTENSION.length());
+        }
+        return xmlFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Converts the xml file or the binary file, whichever was saved later, into the other format if the other
+     * format is the primary one, so that the primary format starts from the latest data.
+     *
+     * @return true if a file was converted
+     * @throws DataConversionException if the file to convert is not in the correct format.
+     */
+    public static boolean convertToPrimaryFormat(Path xmlFilePath, boolean isBinaryPrimary)
+            throws DataConversionException, IOException {
+        Path binaryFilePath = getBinaryFilePath(xmlFilePath);
+        Path primary = isBinaryPrimary ? binaryFilePath : xmlFilePath;
+        Path secondary = isBinaryPrimary ? xmlFilePath : binaryFilePath;
+        if (!Files.exists(secondary) || (Files.exists(primary)
+                && Files.getLastModifiedTime(primary).compareTo(Files.getLastModifiedTime(secondary)) >= 0)) {
+            return false;
+        }
+
+        logger.info("Converting " + secondary + " into " + primary);
+        try {
+            if (isBinaryPrimary) {
+                BinaryFileStorage.convertXmlToBinary(xmlFilePath, binaryFilePath);
+            } else {
+                BinaryFileStorage.convertBinaryToXml(binaryFilePath, xmlFilePath);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + secondary + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return true;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryFileStorage.loadDataFromSaveFile(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        BinaryFileStorage.saveDataToFile(filePath, addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, AddressBookChanges changes) throws IOException {
+        // every save is written out in full
+        saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // every save is written out in full
+    }
+}
@@ -0,0 +1,431 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventName;
+import seedu.address.model.event.polls.AbstractPoll;
+import seedu.address.model.event.polls.Poll;
+import seedu.address.model.interest.Interest;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Friend;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Password;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Stores addressbook data in a compact binary file that is read in one sequential pass.
+ * Tags, interests, friends and names are stored once in a string table and referred to by their position in it,
+ * schedules are stored as 6 bytes per day, and events and polls refer to persons by their position in the
+ * person list. Each person and event keeps its id. The file holds the same data as the xml file, and polls are
+ * read back as the xml file reads them.
+ */
+public class BinaryFileStorage {
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not an address book binary file.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Invalid reference %1$d in the address book binary file.";
+
+    private static final int MAGIC = 0x454f4231;
+    // version 1 files were saved before persons had ids, and version 2 files before events had ids
+    private static final int VERSION_WITHOUT_PERSON_IDS = 1;
+    private static final int VERSION_WITHOUT_EVENT_IDS = 2;
+    private static final int VERSION = 3;
+    private static final int NONE = -1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final int DAY_ROW_BYTES = Schedule.HOUR / Byte.SIZE;
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    //================ Saving ==============================
+
+    /**
+     * Saves the given addressbook data to the specified file, replacing it only once the data is fully written.
+     */
+    public static void saveDataToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(file);
+        requireNonNull(addressBook);
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                writeAddressBook(out, addressBook);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeAddressBook(DataOutputStream out, ReadOnlyAddressBook addressBook) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        List<Event> events = addressBook.getEventList();
+        Map<Person, Integer> personIndexes = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            personIndexes.putIfAbsent(persons.get(i), i);
+        }
+        Map<String, Integer> strings = buildStringTable(persons, events);
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(strings.size());
+        for (String string : strings.keySet()) {
+            writeString(out, string);
+        }
+
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            out.writeLong(person.getId());
+            out.writeInt(strings.get(person.getName().value));
+            writeString(out, person.getPhone().value);
+            writeString(out, person.getEmail().value);
+            writeString(out, person.getPassword().value);
+            writeString(out, person.getAddress().value);
+            writeSchedule(out, person.getSchedule());
+            out.writeInt(person.getInterests().size());
+            for (Interest interest : person.getInterests()) {
+                out.writeInt(strings.get(interest.interestName));
+            }
+            writeTags(out, person.getTags(), strings);
+            out.writeInt(person.getFriends().size());
+            for (Friend friend : person.getFriends()) {
+                out.writeInt(strings.get(friend.friendAttributes));
+            }
+        }
+
+        out.writeInt(events.size());
+        for (Event event : events) {
+            out.writeLong(event.getId());
+            out.writeInt(strings.get(event.getName().value));
+            writeString(out, event.getLocation().value);
+            out.writeInt(indexOf(personIndexes, event.getOrganiser()));
+            out.writeLong(event.getDate().map(LocalDate::toEpochDay).orElse(NO_DATE));
+            if (event.getStartTime().isPresent() && event.getEndTime().isPresent()) {
+                out.writeInt(event.getStartTime().get().toSecondOfDay());
+                out.writeInt(event.getEndTime().get().toSecondOfDay());
+            } else {
+                out.writeInt(NONE);
+                out.writeInt(NONE);
+            }
+            writeTags(out, event.getTags(), strings);
+            out.writeInt(event.getPolls().size());
+            for (AbstractPoll poll : event.getPolls()) {
+                out.writeInt(poll.getId());
+                out.writeInt(strings.get(poll.getPollName()));
+                out.writeInt(poll.getPollData().size());
+                for (Map.Entry<String, UniquePersonList> option : poll.getPollData().entrySet()) {
+                    out.writeInt(strings.get(option.getKey()));
+                    writePersonReferences(out, option.getValue(), personIndexes);
+                }
+            }
+            writePersonReferences(out, event.getParticipantList(), personIndexes);
+        }
+    }
+
+    /**
+     * Numbers every distinct tag, interest, friend and name in the order they are first met
+     */
+    private static Map<String, Integer> buildStringTable(List<Person> persons, List<Event> events) {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Person person : persons) {
+            strings.putIfAbsent(person.getName().value, strings.size());
+            person.getInterests().forEach(interest -> strings.putIfAbsent(interest.interestName, strings.size()));
+            person.getTags().forEach(tag -> strings.putIfAbsent(tag.tagName, strings.size()));
+            person.getFriends().forEach(friend -> strings.putIfAbsent(friend.friendAttributes, strings.size()));
+        }
+        for (Event event : events) {
+            strings.putIfAbsent(event.getName().value, strings.size());
+            event.getTags().forEach(tag -> strings.putIfAbsent(tag.tagName, strings.size()));
+            for (AbstractPoll poll : event.getPolls()) {
+                strings.putIfAbsent(poll.getPollName(), strings.size());
+                poll.getPollData().keySet().forEach(option -> strings.putIfAbsent(option, strings.size()));
+            }
+        }
+        return strings;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeSchedule(DataOutputStream out, Schedule schedule) throws IOException {
+        for (int day = 0; day < Schedule.DAY; day++) {
+            long row = schedule.getDayRow(day);
+            for (int i = 0; i < DAY_ROW_BYTES; i++) {
+                out.writeByte((int) (row >>> (i * Byte.SIZE)));
+            }
+        }
+    }
+
+    private static void writeTags(DataOutputStream out, Set<Tag> tags, Map<String, Integer> strings)
+            throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeInt(strings.get(tag.tagName));
+        }
+    }
+
+    private static void writePersonReferences(DataOutputStream out, UniquePersonList persons,
+                                              Map<Person, Integer> personIndexes) throws IOException {
+        List<Person> list = persons.asUnmodifiableObservableList();
+        out.writeInt(list.size());
+        for (Person person : list) {
+            out.writeInt(indexOf(personIndexes, person));
+        }
+    }
+
+    private static int indexOf(Map<Person, Integer> personIndexes, Person person) {
+        return person == null ? NONE : personIndexes.getOrDefault(person, NONE);
+    }
+
+    //================ Loading ==============================
+
+    /**
+     * Returns the address book in the file.
+     *
+     * @throws DataConversionException if the file is not an address book binary file.
+     * @throws IllegalValueException if a person or event in the file is invalid, or the persons or events
+     *     contain duplicates.
+     */
+    public static AddressBook loadDataFromSaveFile(Path file) throws DataConversionException,
+            IllegalValueException, IOException {
+        requireNonNull(file);
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            int version = in.readInt() == MAGIC ? in.readInt() : -1;
+            if (version < VERSION_WITHOUT_PERSON_IDS || version > VERSION) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_NOT_BINARY_FILE));
+            }
+            return readAddressBook(in, version);
+        } catch (EOFException e) {
+            throw new DataConversionException(e);
+        } catch (IllegalArgumentException e) {
+            // raised by the model when a value breaks its constraints
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static AddressBook readAddressBook(DataInputStream in, int version)
+            throws IOException, IllegalValueException {
+        String[] strings = new String[readCount(in)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(in);
+        }
+        // each distinct tag, interest and friend is checked and created once, and shared
+        Tag[] tags = new Tag[strings.length];
+        Interest[] interests = new Interest[strings.length];
+        Friend[] friends = new Friend[strings.length];
+
+        int personCount = readCount(in);
+        List<Person> persons = new ArrayList<>(personCount);
+        Set<Person> personSet = new HashSet<>();
+        for (int i = 0; i < personCount; i++) {
+            // events of version 1 files referred to persons by position, which the ids now stand for
+            long id = version == VERSION_WITHOUT_PERSON_IDS ? i : in.readLong();
+            Name name = new Name(strings[readReference(in, strings.length)]);
+            Phone phone = new Phone(readString(in));
+            Email email = new Email(readString(in));
+            Password password = new Password(readString(in));
+            Address address = new Address(readString(in));
+            Schedule schedule = readSchedule(in);
+            Set<Interest> personInterests = new HashSet<>();
+            for (int count = readCount(in); count > 0; count--) {
+                int reference = readReference(in, strings.length);
+                if (interests[reference] == null) {
+                    interests[reference] = new Interest(strings[reference]);
+                }
+                personInterests.add(interests[reference]);
+            }
+            Set<Tag> personTags = readTags(in, strings, tags);
+            Set<Friend> personFriends = new HashSet<>();
+            for (int count = readCount(in); count > 0; count--) {
+                int reference = readReference(in, strings.length);
+                if (friends[reference] == null) {
+                    friends[reference] = new Friend(strings[reference]);
+                }
+                personFriends.add(friends[reference]);
+            }
+
+            Person person = new Person(name, phone, email, password, address, personInterests, personTags, schedule,
+                    personFriends);
+            // the same persons as UniquePersonList considers duplicates, found without comparing every pair
+            if (!personSet.add(person)) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            person.setId(id);
+            persons.add(person);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        for (int count = readCount(in); count > 0; count--) {
+            long id = version <= VERSION_WITHOUT_EVENT_IDS ? Event.NO_ID : in.readLong();
+            Event event = readEvent(in, strings, tags, persons);
+            event.setId(id);
+            if (addressBook.hasEvent(event)) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addEvent(event);
+        }
+        return addressBook;
+    }
+
+    private static Event readEvent(DataInputStream in, String[] strings, Tag[] tags, List<Person> persons)
+            throws IOException {
+        EventName name = new EventName(strings[readReference(in, strings.length)]);
+        Address address = new Address(readString(in));
+        int organiser = in.readInt();
+        long date = in.readLong();
+        int startTime = in.readInt();
+        int endTime = in.readInt();
+        Event event = new Event(name, address, readTags(in, strings, tags));
+        if (organiser != NONE) {
+            event.setOrganiser(persons.get(checkReference(organiser, persons.size())));
+        }
+        if (date != NO_DATE) {
+            event.setDate(LocalDate.ofEpochDay(date));
+        }
+        if (startTime != NONE && endTime != NONE) {
+            event.setTime(LocalTime.ofSecondOfDay(startTime), LocalTime.ofSecondOfDay(endTime));
+        }
+
+        ArrayList<AbstractPoll> polls = new ArrayList<>();
+        for (int count = readCount(in); count > 0; count--) {
+            int id = in.readInt();
+            String pollName = strings[readReference(in, strings.length)];
+            HashMap<String, UniquePersonList> pollData = new HashMap<>();
+            for (int options = readCount(in); options > 0; options--) {
+                String option = strings[readReference(in, strings.length)];
+                UniquePersonList voters = new UniquePersonList();
+                voters.setPersons(readPersonReferences(in, persons));
+                pollData.put(option, voters);
+            }
+            polls.add(new Poll(id, pollName, pollData));
+        }
+        event.setPolls(polls);
+        event.setParticipantList(readPersonReferences(in, persons));
+        return event;
+    }
+
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException(MESSAGE_NOT_BINARY_FILE);
+        }
+        return count;
+    }
+
+    private static int readReference(DataInputStream in, int size) throws IOException {
+        return checkReference(in.readInt(), size);
+    }
+
+    private static int checkReference(int reference, int size) throws IOException {
+        if (reference < 0 || reference >= size) {
+            throw new IOException(String.format(MESSAGE_INVALID_REFERENCE, reference));
+        }
+        return reference;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readCount(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Schedule readSchedule(DataInputStream in) throws IOException {
+        long[] rows = new long[Schedule.DAY];
+        for (int day = 0; day < Schedule.DAY; day++) {
+            for (int i = 0; i < DAY_ROW_BYTES; i++) {
+                rows[day] |= (long) in.readUnsignedByte() << (i * Byte.SIZE);
+            }
+        }
+        return Schedule.fromDayRows(rows);
+    }
+
+    private static Set<Tag> readTags(DataInputStream in, String[] strings, Tag[] tags) throws IOException {
+        Set<Tag> readTags = new HashSet<>();
+        for (int count = readCount(in); count > 0; count--) {
+            int reference = readReference(in, strings.length);
+            if (tags[reference] == null) {
+                tags[reference] = new Tag(strings[reference]);
+            }
+            readTags.add(tags[reference]);
+        }
+        return readTags;
+    }
+
+    /**
+     * Reads a list of person references, leaving out the persons that could not be found as the xml file does
+     */
+    private static ArrayList<Person> readPersonReferences(DataInputStream in, List<Person> persons)
+            throws IOException {
+        ArrayList<Person> referred = new ArrayList<>();
+        for (int count = readCount(in); count > 0; count--) {
+            int reference = in.readInt();
+            if (reference >= 0 && reference < persons.size()) {
+                referred.add(persons.get(reference));
+            }
+        }
+        return referred;
+    }
+
+    //================ Conversion ==============================
+
+    /**
+     * Converts the xml address book file into a binary file.
+     */
+    public static void convertXmlToBinary(Path xmlFile, Path binaryFile) throws DataConversionException,
+            IllegalValueException, IOException {
+        AddressBook addressBook = XmlStreamFileStorage.loadDataFromSaveFile(xmlFile);
+        FileUtil.createIfMissing(binaryFile);
+        saveDataToFile(binaryFile, addressBook);
+    }
+
+    /**
+     * Converts the binary address book file into an xml file.
+     */
+    public static void convertBinaryToXml(Path binaryFile, Path xmlFile) throws DataConversionException,
+            IllegalValueException, IOException {
+        AddressBook addressBook = loadDataFromSaveFile(binaryFile);
+        FileUtil.createIfMissing(xmlFile);
+        XmlStreamFileStorage.saveDataToFile(xmlFile, addressBook);
+    }
+}
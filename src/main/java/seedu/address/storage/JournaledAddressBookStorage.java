@@ -0,0 +1,325 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as an xml snapshot and a journal of the changes since.
+ * Saving appends one {@link XmlJournalRecord} to {@code <data file>.journal} instead of rewriting the data file.
+ * The snapshot is only rewritten, and the journal emptied, on a checkpoint: once the journal is larger than the
+ * checkpoint size or older than the checkpoint interval, or on {@link #flushAddressBook()}.
+ * Reading replays the journal on top of the snapshot, dropping a final record that was only partly written.
+ * Other data files are read and saved as plain xml.
+ *
+ * @author adjscent
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final long DEFAULT_CHECKPOINT_BYTES = 1024 * 1024;
+    public static final long DEFAULT_CHECKPOINT_MILLIS = 10 * 60 * 1000;
+
+    // header: magic number and the checksum of the snapshot the journal applies to
+    private static final int JOURNAL_MAGIC = 0x454f4a31;
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    // every record: payload length and payload checksum, then the payload
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final JAXBContext RECORD_CONTEXT = createRecordContext();
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final long checkpointBytes;
+    private final long checkpointMillis;
+
+    // the address book as the snapshot and the journal hold it, or null if not read or saved yet
+    private List<XmlAdaptedPerson> savedPersons;
+    private List<XmlAdaptedEvent> savedEvents;
+    private long snapshotChecksum;
+    private long journalBytes;
+    private long lastCheckpointMillis;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_BYTES, DEFAULT_CHECKPOINT_MILLIS);
+    }
+
+    public JournaledAddressBookStorage(Path filePath, long checkpointBytes, long checkpointMillis) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+        this.checkpointBytes = checkpointBytes;
+        this.checkpointMillis = checkpointMillis;
+    }
+
+    private static JAXBContext createRecordContext() {
+        try {
+            return JAXBContext.newInstance(XmlJournalRecord.class);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new XmlAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        XmlSerializableAddressBook snapshot = XmlStreamFileStorage.loadSerializableDataFromSaveFile(filePath);
+        List<XmlAdaptedPerson> persons = new ArrayList<>(snapshot.getPersons());
+        List<XmlAdaptedEvent> events = new ArrayList<>(snapshot.getEvents());
+        long checksum = checksumOf(Files.readAllBytes(filePath));
+        int replayed = replayJournal(checksum, persons, events);
+        logger.info("Replayed " + replayed + " journal records onto " + filePath);
+
+        try {
+            ReadOnlyAddressBook addressBook = ParallelAddressBookLoader.toModelType(persons, events);
+            savedPersons = persons;
+            savedEvents = events;
+            snapshotChecksum = checksum;
+            lastCheckpointMillis = System.currentTimeMillis();
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Applies the records of the journal written for the snapshot with {@code checksum} to the persons and events.
+     * The journal is cut short at the first record that is incomplete or corrupted.
+     *
+     * @return the number of records applied
+     */
+    private int replayJournal(long checksum, List<XmlAdaptedPerson> persons, List<XmlAdaptedEvent> events)
+            throws IOException {
+        journalBytes = 0;
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        ByteBuffer journal = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+        if (journal.remaining() < HEADER_BYTES || journal.getInt() != JOURNAL_MAGIC || journal.getLong() != checksum) {
+            // left behind by a checkpoint that replaced the snapshot, or never completed
+            logger.info("Ignoring journal " + journalPath + " as it does not belong to " + filePath);
+            return 0;
+        }
+
+        int replayed = 0;
+        int validBytes = journal.position();
+        while (journal.hasRemaining()) {
+            Optional<XmlJournalRecord> record = readRecord(journal);
+            if (!record.isPresent()) {
+                break;
+            }
+            try {
+                record.get().applyTo(persons, events);
+            } catch (IllegalValueException ive) {
+                break;
+            }
+            replayed++;
+            validBytes = journal.position();
+        }
+
+        if (validBytes < journal.limit()) {
+            logger.warning("Discarding " + (journal.limit() - validBytes) + " bytes of torn records in "
+                    + journalPath);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(validBytes);
+            }
+        }
+        journalBytes = validBytes;
+        return replayed;
+    }
+
+    /**
+     * Reads the next record of the journal, or returns empty if it is incomplete or corrupted
+     */
+    private static Optional<XmlJournalRecord> readRecord(ByteBuffer journal) {
+        if (journal.remaining() < RECORD_HEADER_BYTES) {
+            return Optional.empty();
+        }
+        int length = journal.getInt();
+        int checksum = journal.getInt();
+        if (length < 0 || journal.remaining() < length) {
+            return Optional.empty();
+        }
+        byte[] payload = new byte[length];
+        journal.get(payload);
+        if ((int) checksumOf(payload) != checksum) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((XmlJournalRecord) RECORD_CONTEXT.createUnmarshaller()
+                    .unmarshal(new ByteArrayInputStream(payload)));
+        } catch (JAXBException | ClassCastException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            new XmlAddressBookStorage(filePath).saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        XmlSerializableAddressBook current = new XmlSerializableAddressBook(addressBook);
+        if (savedPersons == null || !Files.exists(filePath)) {
+            checkpoint(current);
+            return;
+        }
+
+        XmlJournalRecord record = new XmlJournalRecord(savedPersons, current.getPersons(),
+                savedEvents, current.getEvents());
+        if (record.isEmpty()) {
+            return;
+        }
+        if (journalBytes >= checkpointBytes
+                || System.currentTimeMillis() - lastCheckpointMillis >= checkpointMillis) {
+            checkpoint(current);
+            return;
+        }
+
+        appendRecord(record);
+        savedPersons = current.getPersons();
+        savedEvents = current.getEvents();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, AddressBookChanges changes) throws IOException {
+        // the changes are found by comparing with the address book saved last
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Writes the journal header if the journal is new, then the record, and waits for both to reach the disk
+     */
+    private void appendRecord(XmlJournalRecord record) throws IOException {
+        byte[] payload = toBytes(record);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + RECORD_HEADER_BYTES + payload.length);
+        if (journalBytes == 0) {
+            buffer.putInt(JOURNAL_MAGIC).putLong(snapshotChecksum);
+        }
+        buffer.putInt(payload.length).putInt((int) checksumOf(payload)).put(payload);
+        buffer.flip();
+
+        // an empty journal may still hold the records of an older snapshot
+        StandardOpenOption mode = journalBytes == 0 ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND;
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, mode)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        journalBytes += buffer.limit();
+    }
+
+    private static byte[] toBytes(XmlJournalRecord record) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            Marshaller marshaller = RECORD_CONTEXT.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            marshaller.marshal(record, out);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Rewrites the snapshot with {@code addressBook} and empties the journal
+     */
+    private void checkpoint(XmlSerializableAddressBook addressBook) throws IOException {
+        // written beside the snapshot and moved over it, so a crash never leaves a partial snapshot
+        Path temp = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_EXTENSION);
+        FileUtil.createIfMissing(temp);
+        try {
+            XmlStreamFileStorage.saveDataToFile(temp, addressBook);
+            Files.move(temp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        // a journal left behind by a crash here no longer matches the snapshot checksum, and is ignored
+        Files.deleteIfExists(journalPath);
+
+        snapshotChecksum = checksumOf(Files.readAllBytes(filePath));
+        journalBytes = 0;
+        lastCheckpointMillis = System.currentTimeMillis();
+        savedPersons = addressBook.getPersons();
+        savedEvents = addressBook.getEvents();
+    }
+
+    /**
+     * Checkpoints the journal if it holds any record
+     */
+    @Override
+    public synchronized void flushAddressBook() throws IOException {
+        if (savedPersons != null && journalBytes > 0) {
+            checkpoint(new XmlSerializableAddressBook(savedPersons, savedEvents));
+        }
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,97 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts adapted persons and events into an {@code AddressBook} using every processor.
+ * Persons are converted and validated concurrently in chunks, then checked for duplicates with a hash set and
+ * installed in one step. Events are converted the same way once every person they refer to is installed.
+ * An invalid file fails with the same exception as {@link XmlSerializableAddressBook#toModelType()}, as the
+ * results are checked in the order of the file.
+ *
+ * @author adjscent
+ */
+public class ParallelAddressBookLoader {
+
+    public static final int CHUNK_SIZE = 256;
+
+    /**
+     * Converts one adapted element into its model type.
+     */
+    @FunctionalInterface
+    private interface Converter<T, R> {
+        R convert(T adapted) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the address book holding {@code persons} and {@code events}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the persons or
+     *     events.
+     */
+    public static AddressBook toModelType(List<XmlAdaptedPerson> persons, List<XmlAdaptedEvent> events)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        // the same persons as UniquePersonList considers duplicates, found without comparing every pair
+        List<Person> modelPersons = convertAll(persons, XmlAdaptedPerson::toModelType, person -> person);
+        XmlSerializableAddressBook.assignLegacyPersonIds(persons, modelPersons);
+        addressBook.setPersons(modelPersons);
+
+        // only read while the events convert
+        XmlPersonReferences references = XmlSerializableAddressBook.resolvePersonReferences(persons, addressBook);
+        addressBook.setEvents(convertAll(events, event -> event.toModelType(references), event ->
+                Arrays.asList(event.getName(), event.getLocation(), event.getOrganiser(), event.getTags())));
+
+        return addressBook;
+    }
+
+    /**
+     * Converts every element of {@code adapted} concurrently, in chunks of {@link #CHUNK_SIZE}.
+     * Elements are duplicates if they have equal keys. As in the sequential conversion, throws the failure of the
+     * earliest element that fails to convert or duplicates an element before it.
+     */
+    private static <T, R> List<R> convertAll(List<T> adapted, Converter<T, R> converter, Function<R, Object> keyOf)
+            throws IllegalValueException {
+        // each slot holds the converted element, or the exception its conversion threw
+        Object[] results = new Object[adapted.size()];
+        int chunks = (adapted.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int end = Math.min(adapted.size(), (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                try {
+                    results[i] = converter.convert(adapted.get(i));
+                } catch (IllegalValueException | RuntimeException e) {
+                    results[i] = e;
+                }
+            }
+        });
+
+        List<R> converted = new ArrayList<>(results.length);
+        Set<Object> keys = new HashSet<>();
+        for (Object result : results) {
+            if (result instanceof IllegalValueException) {
+                throw (IllegalValueException) result;
+            } else if (result instanceof RuntimeException) {
+                throw (RuntimeException) result;
+            }
+            @SuppressWarnings("unchecked")
+            R element = (R) result;
+            if (!keys.add(keyOf.apply(element))) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            converted.add(element);
+        }
+        return converted;
+    }
+}
@@ -0,0 +1,428 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+
+/**
+ * A class to access AddressBook data stored as shards in a directory beside the data file: one file for the
+ * persons, and one file for each event that also holds the polls of the event.
+ * The shards of {@code data/addressbook.xml} are {@code data/addressbook.shards/persons.<generation>.xml} and
+ * {@code data/addressbook.shards/events/<event id>.<generation>.xml}, each in the format of the data file.
+ * A shard is never overwritten: a save writes the shards that changed under a new generation, and then replaces
+ * the manifest naming the shards of the address book, so a save that fails part way leaves the last save intact.
+ * Shards the manifest does not name are ignored, and deleted by the next save that writes every event.
+ * Saving the changes tracked by the model only writes the shards of the persons and events that changed, and
+ * reading parses the shards on every processor.
+ * Other data files are read and saved as plain xml, to import and export the address book.
+ *
+ * @author adjscent
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_DIRECTORY_EXTENSION = ".shards";
+    public static final String MANIFEST = "manifest.txt";
+    public static final String PERSONS_SHARD = "persons";
+    public static final String EVENTS_DIRECTORY = "events";
+
+    private static final String XML_FILE_EXTENSION = ".xml";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final String PERSONS_SHARD_VALIDATION_REGEX = PERSONS_SHARD + "\\.\\d{1,18}\\.xml";
+    private static final Pattern EVENT_SHARD_FORMAT =
+            Pattern.compile(EVENTS_DIRECTORY + "/(?<id>\\d{1,18})\\.\\d{1,18}\\.xml");
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path directory;
+    private final Path manifestFile;
+
+    // the manifest of the shards as this storage last read or saved them, or null if they may have changed since
+    private Manifest manifest;
+
+    public ShardedAddressBookStorage(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+        this.manifestFile = directory.resolve(MANIFEST);
+    }
+
+
+    /**
+     * Returns the directory of the shards kept beside the xml file {@code xmlFilePath}
+     */
+    public static Path getShardDirectory(Path xmlFilePath) {
+        String fileName = xmlFilePath.getFileName().toString();
+        if (fileName.endsWith(XML_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - XML_FILE_EXTENSION.length());
+        }
+        return xmlFilePath.resolveSibling(fileName + SHARD_DIRECTORY_EXTENSION);
+    }
+
+    /**
+     * Imports the xml file into the shards, or exports the shards into the xml file, whichever was saved later,
+     * if the other format is the primary one, so that the primary format starts from the latest data.
+     *
+     * @return true if the data was imported or exported
+     * @throws DataConversionException if the data to convert is not in the correct format.
+     */
+    public static boolean convertToPrimaryFormat(Path xmlFilePath, boolean isShardedPrimary)
+            throws DataConversionException, IOException {
+        Path directory = getShardDirectory(xmlFilePath);
+        Optional<FileTime> shardsSaved = getLastModifiedTime(directory);
+        Optional<FileTime> fileSaved = Files.exists(xmlFilePath)
+                ? Optional.of(Files.getLastModifiedTime(xmlFilePath))
+                : Optional.empty();
+        Optional<FileTime> primarySaved = isShardedPrimary ? shardsSaved : fileSaved;
+        Optional<FileTime> secondarySaved = isShardedPrimary ? fileSaved : shardsSaved;
+        if (!secondarySaved.isPresent()
+                || (primarySaved.isPresent() && primarySaved.get().compareTo(secondarySaved.get()) >= 0)) {
+            return false;
+        }
+
+        if (isShardedPrimary) {
+            importFromFile(xmlFilePath, directory);
+        } else {
+            exportToFile(directory, xmlFilePath);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the shards in {@code directory} with the address book in the xml file {@code xmlFilePath}.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static void importFromFile(Path xmlFilePath, Path directory) throws DataConversionException, IOException {
+        logger.info("Importing " + xmlFilePath + " into " + directory);
+        try {
+            new ShardedAddressBookStorage(directory).saveAddressBook(
+                    XmlStreamFileStorage.loadDataFromSaveFile(xmlFilePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + xmlFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Replaces the xml file {@code xmlFilePath} with the address book in the shards in {@code directory}.
+     * Nothing is exported if {@code directory} holds no shards.
+     *
+     * @throws DataConversionException if the shards are not in the correct format.
+     */
+    public static void exportToFile(Path directory, Path xmlFilePath) throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = new ShardedAddressBookStorage(directory).readAddressBook();
+        if (addressBook.isPresent()) {
+            logger.info("Exporting " + directory + " into " + xmlFilePath);
+            FileUtil.createIfMissing(xmlFilePath);
+            XmlStreamFileStorage.saveDataToFile(xmlFilePath, addressBook.get());
+        }
+    }
+
+    /**
+     * Returns the time the shards in {@code directory} were last saved, or empty if there are no shards.
+     */
+    private static Optional<FileTime> getLastModifiedTime(Path directory) throws IOException {
+        Path manifestFile = directory.resolve(MANIFEST);
+        // the manifest is replaced last by every save
+        return Files.exists(manifestFile) ? Optional.of(Files.getLastModifiedTime(manifestFile)) : Optional.empty();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(directory);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(directory)) {
+            return new XmlAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        if (!Files.exists(manifestFile)) {
+            logger.info("AddressBook shard manifest " + manifestFile + " not found");
+            return Optional.empty();
+        }
+
+        Manifest readManifest = Manifest.read(manifestFile);
+        List<Long> eventIds = new ArrayList<>(readManifest.eventShards.keySet());
+        List<Path> shards = readManifest.getShards().stream().map(directory::resolve).collect(Collectors.toList());
+        // each slot holds the shard as it is stored, or the exception reading it threw
+        Object[] results = new Object[shards.size()];
+        IntStream.range(0, shards.size()).parallel().forEach(i -> {
+            try {
+                results[i] = XmlStreamFileStorage.loadSerializableDataFromSaveFile(shards.get(i));
+            } catch (DataConversionException | IOException | RuntimeException e) {
+                results[i] = e;
+            }
+        });
+
+        List<XmlAdaptedPerson> persons = new ArrayList<>();
+        List<XmlAdaptedEvent> events = new ArrayList<>();
+        boolean isEveryShardNamedById = true;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] instanceof DataConversionException) {
+                throw (DataConversionException) results[i];
+            } else if (results[i] instanceof IOException) {
+                throw (IOException) results[i];
+            } else if (results[i] instanceof RuntimeException) {
+                throw (RuntimeException) results[i];
+            }
+            XmlSerializableAddressBook shard = (XmlSerializableAddressBook) results[i];
+            persons.addAll(shard.getPersons());
+            events.addAll(shard.getEvents());
+            if (i > 0) {
+                isEveryShardNamedById &= shard.getPersons().isEmpty() && shard.getEvents().size() == 1
+                        && String.valueOf(eventIds.get(i - 1)).equals(shard.getEvents().get(0).getId());
+            }
+        }
+
+        try {
+            AddressBook addressBook = ParallelAddressBookLoader.toModelType(persons, events);
+            // shards that were edited by hand are all rewritten on the next save
+            boolean isInSync = isEveryShardNamedById && persons.stream().allMatch(person -> person.getId() != null);
+            manifest = isInSync ? readManifest : null;
+            logger.info("Read " + shards.size() + " shards from " + directory);
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, AddressBookChanges.ALL);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(directory)) {
+            new XmlAddressBookStorage(filePath).saveAddressBook(addressBook, filePath);
+            return;
+        }
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Writes new shards for the persons and events in {@code changes}, and then replaces the manifest so that it
+     * names them instead of the shards they replace, and no longer names the shards of removed events.
+     * Every shard is written if the shards do not hold the address book this storage last read or saved.
+     * The events of {@code addressBook} must have ids, as the events of an {@code AddressBook} do.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        Manifest current = Files.exists(manifestFile) ? manifest : null;
+        if (current == null) {
+            changes = AddressBookChanges.ALL;
+        }
+        // not in sync until the manifest is replaced, in case of a failure part way
+        manifest = null;
+
+        // a generation no manifest has named, so no shard the manifest on disk names is overwritten
+        long generation = Math.max(current == null ? 0 : current.generation, readGeneration()) + 1;
+        Manifest next = current == null ? new Manifest(generation) : current.toGeneration(generation);
+        XmlPersonReferences references = new XmlPersonReferences(addressBook.getPersonList());
+        int written = 0;
+        if (changes.arePersonsChanged()) {
+            List<XmlAdaptedPerson> persons = addressBook.getPersonList().stream()
+                    .map(person -> new XmlAdaptedPerson(person, references))
+                    .collect(Collectors.toList());
+            next.personsShard = PERSONS_SHARD + "." + generation + XML_FILE_EXTENSION;
+            writeShard(directory.resolve(next.personsShard),
+                    new XmlSerializableAddressBook(persons, Collections.emptyList()));
+            written++;
+        }
+
+        Set<Long> eventIds = new HashSet<>();
+        for (Event event : addressBook.getEventList()) {
+            assert event.getId() != Event.NO_ID;
+            eventIds.add(event.getId());
+            if (changes.isEventChanged(event.getId())) {
+                String shard = EVENTS_DIRECTORY + "/" + event.getId() + "." + generation + XML_FILE_EXTENSION;
+                writeShard(directory.resolve(shard), new XmlSerializableAddressBook(Collections.emptyList(),
+                        Collections.singletonList(new XmlAdaptedEvent(event, references))));
+                next.eventShards.put(event.getId(), shard);
+                written++;
+            }
+        }
+        next.eventShards.keySet().retainAll(eventIds);
+
+        next.write(manifestFile);
+        manifest = next;
+
+        // saving every event also deletes the shards of earlier saves that failed part way
+        Set<String> obsoleteShards = changes.areAllEventsChanged() ? listShards() : new HashSet<>(current.getShards());
+        obsoleteShards.removeAll(next.getShards());
+        for (String shard : obsoleteShards) {
+            Files.deleteIfExists(directory.resolve(shard));
+        }
+        logger.fine("Wrote " + written + " and deleted " + obsoleteShards.size() + " shards in " + directory);
+    }
+
+    /**
+     * Returns the generation of the manifest on disk, or 0 if there is none or it cannot be read
+     */
+    private long readGeneration() {
+        try {
+            return Files.exists(manifestFile) ? Manifest.read(manifestFile).generation : 0;
+        } catch (DataConversionException | IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the xml files in the directory and in its events directory, relative to the directory
+     */
+    private Set<String> listShards() throws IOException {
+        Set<String> shards = new HashSet<>();
+        if (!Files.isDirectory(directory)) {
+            return shards;
+        }
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            files.filter(file -> file.getFileName().toString().endsWith(XML_FILE_EXTENSION))
+                    .map(file -> directory.relativize(file).toString().replace(File.separatorChar, '/'))
+                    .filter(shard -> !shard.contains("/") || shard.startsWith(EVENTS_DIRECTORY + "/"))
+                    .forEach(shards::add);
+        }
+        return shards;
+    }
+
+    /**
+     * Writes {@code content} beside {@code shard} and moves it over {@code shard}, so a crash never leaves a
+     * partial shard
+     */
+    private static void writeShard(Path shard, XmlSerializableAddressBook content) throws IOException {
+        Path temp = shard.resolveSibling(shard.getFileName() + TEMP_FILE_EXTENSION);
+        FileUtil.createIfMissing(temp);
+        try {
+            XmlStreamFileStorage.saveDataToFile(temp, content);
+            Files.move(temp, shard, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // every save is written to its shards
+    }
+
+    /**
+     * The shards of an address book as of a generation, as paths relative to the shard directory.
+     * A manifest file holds the generation, then the persons shard, then the event shards in the order of the event
+     * ids, one per line.
+     */
+    static class Manifest {
+        private final long generation;
+        private String personsShard;
+        // the shard of each event by the id of the event
+        private final TreeMap<Long, String> eventShards = new TreeMap<>();
+
+        private Manifest(long generation) {
+            this.generation = generation;
+        }
+
+        /**
+         * Returns a copy of this manifest as of {@code generation}
+         */
+        private Manifest toGeneration(long generation) {
+            Manifest manifest = new Manifest(generation);
+            manifest.personsShard = personsShard;
+            manifest.eventShards.putAll(eventShards);
+            return manifest;
+        }
+
+        /**
+         * Reads the manifest file {@code file}.
+         *
+         * @throws DataConversionException if the file is not a manifest.
+         */
+        static Manifest read(Path file) throws DataConversionException, IOException {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            try {
+                if (lines.size() < 2 || !lines.get(1).matches(PERSONS_SHARD_VALIDATION_REGEX)) {
+                    throw new IllegalValueException("Invalid shard manifest " + file);
+                }
+                Manifest manifest = new Manifest(Long.parseLong(lines.get(0)));
+                manifest.personsShard = lines.get(1);
+                for (String shard : lines.subList(2, lines.size())) {
+                    Matcher matcher = EVENT_SHARD_FORMAT.matcher(shard);
+                    if (!matcher.matches()
+                            || manifest.eventShards.put(Long.parseLong(matcher.group("id")), shard) != null) {
+                        throw new IllegalValueException("Invalid shard manifest " + file);
+                    }
+                }
+                return manifest;
+            } catch (IllegalValueException | NumberFormatException e) {
+                throw new DataConversionException(e);
+            }
+        }
+
+        /**
+         * Writes this manifest beside {@code file} and moves it over {@code file}, which commits the save
+         */
+        void write(Path file) throws IOException {
+            List<String> lines = new ArrayList<>();
+            lines.add(String.valueOf(generation));
+            lines.addAll(getShards());
+            Path temp = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+            FileUtil.createIfMissing(temp);
+            try {
+                Files.write(temp, lines, StandardCharsets.UTF_8);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        /**
+         * Returns the persons shard and then the event shards in the order of the event ids, which is the order the
+         * events were added in
+         */
+        List<String> getShards() {
+            List<String> shards = new ArrayList<>(eventShards.size() + 1);
+            shards.add(personsShard);
+            shards.addAll(eventShards.values());
+            return shards;
+        }
+    }
+}
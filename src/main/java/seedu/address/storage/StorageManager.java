@@ -3,7 +3,11 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import com.google.common.eventbus.Subscribe;
 
@@ -12,23 +16,52 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Changes to the address book are saved on a background thread, and the changes made within the save delay of
+ * each other are saved together.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 300;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
-
+    //@@author adjscent
+    private final long saveDelayMillis;
+    private final ScheduledExecutorService saver = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "addressbook-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // the latest changed address book that is not saved yet, guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    // what changed since the address book saved last, guarded by this
+    private AddressBookChanges pendingChanges = AddressBookChanges.NONE;
+    // whether the saver will save the pending address book, guarded by this
+    private boolean isSaveScheduled;
+    // held while saving, so that saves never overlap
+    private final Object saveLock = new Object();
+
+    //@@author
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, DEFAULT_SAVE_DELAY_MILLIS);
+    }
+
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDelayMillis) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveDelayMillis = saveDelayMillis;
     }
 
     // ================ UserPrefs methods ==============================
@@ -78,15 +111,81 @@ public class StorageManager extends ComponentManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    //@@author adjscent
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, AddressBookChanges changes) throws IOException {
+        logger.fine("Attempting to write changes to data file: " + changes);
+        addressBookStorage.saveAddressBook(addressBook, changes);
+    }
+
+    /**
+     * Saves the change that is waiting for the save delay, then flushes the address book storage.
+     * A failure to save the change is raised as a {@link DataSavingExceptionEvent}.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        savePendingAddressBook();
+        addressBookStorage.flushAddressBook();
+    }
 
+    //@@author
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        // events are changed in place, so the saver gets its own copy of them
+        ReadOnlyAddressBook addressBook = copyOf(event.data);
+        synchronized (this) {
+            pendingAddressBook = addressBook;
+            pendingChanges = pendingChanges.merge(event.changes);
+            if (!isSaveScheduled) {
+                isSaveScheduled = true;
+                saver.schedule(this::savePendingAddressBook, saveDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    //@@author adjscent
+    private static ReadOnlyAddressBook copyOf(ReadOnlyAddressBook addressBook) {
+        AddressBook copy = new AddressBook();
+        copy.setPersons(addressBook.getPersonList());
+        copy.setEvents(addressBook.getEventList().stream().map(Event::getCopy).collect(Collectors.toList()));
+        return copy;
+    }
+
+    /**
+     * Saves the latest changed address book, unless nothing changed since the last save.
+     * If the save fails, the address book stays pending, to be saved with the next change or flush.
+     */
+    private void savePendingAddressBook() {
+        synchronized (saveLock) {
+            ReadOnlyAddressBook addressBook;
+            AddressBookChanges changes;
+            synchronized (this) {
+                addressBook = pendingAddressBook;
+                changes = pendingChanges;
+                pendingAddressBook = null;
+                pendingChanges = AddressBookChanges.NONE;
+                isSaveScheduled = false;
+            }
+            if (addressBook == null) {
+                return;
+            }
+            if (changes.isEmpty()) {
+                logger.fine("Local data unchanged since the last save");
+                return;
+            }
+            try {
+                saveAddressBook(addressBook, changes);
+            } catch (IOException e) {
+                synchronized (this) {
+                    if (pendingAddressBook == null) {
+                        pendingAddressBook = addressBook;
+                    }
+                    pendingChanges = changes.merge(pendingChanges);
+                }
+                raise(new DataSavingExceptionEvent(e));
+            }
         }
     }
 
@@ -8,13 +8,13 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.event.Event;
@@ -30,9 +30,17 @@ import seedu.address.model.tag.Tag;
  */
 public class XmlAdaptedEvent {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
+    //@@author adjscent
+    public static final String MESSAGE_ID_CONSTRAINTS = "Event's id should be a non-negative whole number.";
+    private static final String ID_VALIDATION_REGEX = "\\d{1,18}";
+    //@@author theJrLinguist
     private static final Logger logger = LogsCenter.getLogger(XmlAdaptedEvent.class);
-    private static ObservableList<Person> personList;
 
+    //@@author adjscent
+    // absent in files saved before events had ids
+    @XmlElement(required = false)
+    private String id;
+    //@@author theJrLinguist
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -89,15 +97,34 @@ public class XmlAdaptedEvent {
         }
     }
 
+    //@@author adjscent
+    /**
+     * Constructs an {@code XmlAdaptedEvent} with the given id and event details.
+     */
+    public XmlAdaptedEvent(String id, String name, String address, String organiser, String date,
+                           String startTime, String endTime, List<XmlAdaptedTag> tagged,
+                           List<XmlAdaptedPoll> polls, List<XmlPersonIndex> personList) {
+        this(name, address, organiser, date, startTime, endTime, tagged, polls, personList);
+        this.id = id;
+    }
+
+    //@@author theJrLinguist
+
     /**
      * Converts a given Event into this class for JAXB use.
      *
      * @param source future changes to this will not affect the created XmlAdaptedEvent
+     * @param references the ids that refer to the organiser, participants and voters
      */
-    public XmlAdaptedEvent(Event source) {
+    public XmlAdaptedEvent(Event source, XmlPersonReferences references) {
+        //@@author adjscent
+        if (source.getId() != Event.NO_ID) {
+            id = String.valueOf(source.getId());
+        }
+        //@@author theJrLinguist
         name = source.getName().value;
         address = source.getLocation().value;
-        organiser = String.valueOf(personList.indexOf(source.getOrganiser()));
+        organiser = references.getId(source.getOrganiser());
 
         tagged = source.getTags().stream()
                 .map(XmlAdaptedTag::new)
@@ -113,32 +140,23 @@ public class XmlAdaptedEvent {
         }
 
         polls = source.getPolls().stream()
-                .map(XmlAdaptedPoll::new)
+                .map(poll -> new XmlAdaptedPoll(poll, references))
                 .collect(Collectors.toList());
         participants = source.getParticipantList()
                 .asUnmodifiableObservableList()
                 .stream()
-                .map(person -> String.valueOf(personList.indexOf(person)))
+                .map(references::getId)
                 .map(XmlPersonIndex::new)
                 .collect(Collectors.toList());
     }
 
-    /**
-     * Provides reference to the person list of the event organiser to XmlAdaptedEvent,
-     * XmlAdaptedPollEntry and XmlPersonIndex.
-     */
-    public static void setPersonList(ObservableList<Person> organiserPersonList) {
-        personList = organiserPersonList;
-        XmlAdaptedPollEntry.setPersonList(personList);
-        XmlPersonIndex.setPersonList(personList);
-    }
-
     /**
      * Converts this jaxb-friendly adapted event object into the model's Event object.
      *
+     * @param references the persons that the ids of the organiser, participants and voters refer to
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
-    public Event toModelType() throws IllegalValueException {
+    public Event toModelType(XmlPersonReferences references) throws IllegalValueException {
         final List<Tag> eventTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
             eventTags.add(tag.toModelType());
@@ -164,12 +182,11 @@ public class XmlAdaptedEvent {
 
         Event event = new Event(modelName, modelAddress, modelTags);
 
-        int organiserIndex = Integer.valueOf(organiser);
-        if (organiserIndex != -1) {
-            final Person modelOrganiser = personList.get(Integer.valueOf(organiser));
-            event.setOrganiser(modelOrganiser);
+        Optional<Person> modelOrganiser = references.getPerson(organiser);
+        if (modelOrganiser.isPresent()) {
+            event.setOrganiser(modelOrganiser.get());
         } else {
-            logger.info("Organiser index cannot be found in the person list");
+            logger.info("Organiser id cannot be found in the person list");
         }
 
         if (!date.isEmpty()) {
@@ -185,14 +202,14 @@ public class XmlAdaptedEvent {
 
         final ArrayList<AbstractPoll> modelPolls = new ArrayList<>();
         for (XmlAdaptedPoll poll : polls) {
-            modelPolls.add(poll.toModelType());
+            modelPolls.add(poll.toModelType(references));
         }
         event.setPolls(modelPolls);
 
         final ArrayList<Person> modelPersonList = new ArrayList<>();
         for (XmlPersonIndex personIndex : participants) {
             try {
-                Person modelPerson = personIndex.toModelType();
+                Person modelPerson = personIndex.toModelType(references);
                 modelPersonList.add(modelPerson);
             } catch (PersonNotFoundException e) {
                 logger.info("Person cannot be found in person list and was not added to participants list.");
@@ -200,9 +217,60 @@ public class XmlAdaptedEvent {
         }
         event.setParticipantList(modelPersonList);
 
+        //@@author adjscent
+        if (id == null) {
+            event.setId(Event.NO_ID);
+        } else if (id.matches(ID_VALIDATION_REGEX)) {
+            event.setId(Long.parseLong(id));
+        } else {
+            throw new IllegalValueException(MESSAGE_ID_CONSTRAINTS);
+        }
+        //@@author theJrLinguist
         return event;
     }
 
+    //@@author adjscent
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getOrganiser() {
+        return organiser;
+    }
+
+    public String getStartTime() {
+        return startTime;
+    }
+
+    public String getEndTime() {
+        return endTime;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public List<XmlAdaptedTag> getTagged() {
+        return tagged;
+    }
+
+    public List<XmlAdaptedPoll> getPolls() {
+        return polls;
+    }
+
+    public List<XmlPersonIndex> getParticipants() {
+        return participants;
+    }
+
+    //@@author theJrLinguist
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -214,7 +282,8 @@ public class XmlAdaptedEvent {
         }
 
         XmlAdaptedEvent otherEvent = (XmlAdaptedEvent) other;
-        return Objects.equals(name, otherEvent.name)
+        return Objects.equals(id, otherEvent.id)
+                && Objects.equals(name, otherEvent.name)
                 && Objects.equals(address, otherEvent.address)
                 && Objects.equals(organiser, otherEvent.organiser)
                 && Objects.equals(date, otherEvent.date)
@@ -1,5 +1,8 @@
 package seedu.address.storage;
 
+import java.util.Objects;
+
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlValue;
 
 import seedu.address.model.person.Friend;
@@ -13,6 +16,10 @@ public class XmlAdaptedFriend {
 
     @XmlValue
     private String friendAttributes;
+    //@@author adjscent
+    @XmlAttribute
+    private String id;
+    //@@author
 
     /**
      * Constructs an XmlAdaptedFriend.
@@ -36,6 +43,25 @@ public class XmlAdaptedFriend {
         friendAttributes = source.friendAttributes;
     }
 
+    //@@author adjscent
+    /**
+     * Constructs a {@code XmlAdaptedFriend} with the given {@code friendAttributes} and the id of the person it
+     * stands for, which can be null.
+     */
+    public XmlAdaptedFriend(String friendAttributes, String id) {
+        this.friendAttributes = friendAttributes;
+        this.id = id;
+    }
+
+    /**
+     * Converts a given Friend into this class for JAXB use, with the id of the person it stands for in
+     * {@code references}.
+     */
+    public XmlAdaptedFriend(Friend source, XmlPersonReferences references) {
+        this(source.friendAttributes, references.getId(source).orElse(null));
+    }
+
+    //@@author
     /**
      * Converts this jaxb-friendly adapted friend object into the model's Friend object.
      */
@@ -43,6 +69,24 @@ public class XmlAdaptedFriend {
         return new Friend(friendAttributes);
     }
 
+    //@@author adjscent
+    /**
+     * Returns the friend as the person its id refers to in {@code references}, as that person may have been
+     * renamed since, or as it was saved if the id refers to no person.
+     */
+    public Friend toModelType(XmlPersonReferences references) {
+        return references.getPerson(id).map(Friend::new).orElseGet(this::toModelType);
+    }
+
+    public String getFriendAttributes() {
+        return friendAttributes;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    //@@author
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -53,6 +97,7 @@ public class XmlAdaptedFriend {
             return false;
         }
 
-        return friendAttributes.equals(((XmlAdaptedFriend) other).friendAttributes);
+        return friendAttributes.equals(((XmlAdaptedFriend) other).friendAttributes)
+                && Objects.equals(id, ((XmlAdaptedFriend) other).id);
     }
 }
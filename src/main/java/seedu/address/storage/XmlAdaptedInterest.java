@@ -49,6 +49,12 @@ public class XmlAdaptedInterest {
         return new Interest(interestName);
     }
 
+    //@@author adjscent
+    public String getInterestName() {
+        return interestName;
+    }
+
+    //@@author
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -27,7 +27,14 @@ import seedu.address.model.tag.Tag;
 public class XmlAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
-
+    //@@author adjscent
+    public static final String MESSAGE_ID_CONSTRAINTS = "Person's id should be a non-negative whole number.";
+    private static final String ID_VALIDATION_REGEX = "\\d{1,18}";
+
+    // absent in files saved before persons had ids
+    @XmlElement(required = false)
+    private String id;
+    //@@author
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -101,18 +108,49 @@ public class XmlAdaptedPerson {
         }
     }
 
+    //@@author adjscent
+    /**
+     * Constructs an {@code XmlAdaptedPerson} with the given id, person details and saved schedule.
+     */
+    public XmlAdaptedPerson(String id, String name, String phone, String email, String password, String address,
+                            String schedule, List<XmlAdaptedInterest> interests, List<XmlAdaptedTag> tagged,
+                            List<XmlAdaptedFriend> friends) {
+        this(name, phone, email, password, address, interests, tagged, friends);
+        this.id = id;
+        this.schedule = schedule;
+    }
+
+    /**
+     * Converts a given Person into this class for JAXB use, referring to its friends by their ids in
+     * {@code references}.
+     *
+     * @param source future changes to this will not affect the created XmlAdaptedPerson
+     */
+    public XmlAdaptedPerson(Person source, XmlPersonReferences references) {
+        this(source);
+        friends = source.getFriends().stream()
+                .map(friend -> new XmlAdaptedFriend(friend, references))
+                .collect(Collectors.toList());
+    }
+
+    //@@author
     /**
      * Converts a given Person into this class for JAXB use.
      *
      * @param source future changes to this will not affect the created XmlAdaptedPerson
      */
     public XmlAdaptedPerson(Person source) {
+        //@@author adjscent
+        if (source.getId() != Person.NO_ID) {
+            id = String.valueOf(source.getId());
+        }
+        //@@author
         name = source.getName().value;
         phone = source.getPhone().value;
         email = source.getEmail().value;
         password = source.getPassword().value;
         address = source.getAddress().value;
-        schedule = source.getSchedule().valueToString();
+        schedule = source.getSchedule().valueToHexString();
         interests = source.getInterests().stream()
                 .map(XmlAdaptedInterest::new)
                 .collect(Collectors.toList());
@@ -188,8 +226,13 @@ public class XmlAdaptedPerson {
         final Schedule modelSchedule;
         if (schedule == null) {
             modelSchedule = new Schedule();
-        } else {
+        } else if (Schedule.isValidHexSchedule(schedule)) {
+            modelSchedule = Schedule.fromHexString(schedule);
+        } else if (Schedule.isValidSchedule(schedule)) {
+            // files saved before the compact encoding
             modelSchedule = new Schedule(schedule);
+        } else {
+            throw new IllegalValueException(Schedule.MESSAGE_SCHEDULE_CONSTRAINTS);
         }
 
         final Set<Interest> modelInterests;
@@ -204,10 +247,41 @@ public class XmlAdaptedPerson {
 
         final Set<Friend> modelFriends = new HashSet<>(personFriends);
 
-        return new Person(modelName, modelPhone, modelEmail, modelPassword, modelAddress, modelInterests, modelTags,
-                modelSchedule, modelFriends);
+        //@@author adjscent
+        final long modelId;
+        if (id == null) {
+            modelId = Person.NO_ID;
+        } else if (id.matches(ID_VALIDATION_REGEX)) {
+            modelId = Long.parseLong(id);
+        } else {
+            throw new IllegalValueException(MESSAGE_ID_CONSTRAINTS);
+        }
+
+        Person person = new Person(modelName, modelPhone, modelEmail, modelPassword, modelAddress, modelInterests,
+                modelTags, modelSchedule, modelFriends);
+        person.setId(modelId);
+        return person;
+    }
+
+    /**
+     * Replaces the friends of {@code person}, converted from this adapted person, with the persons their ids refer
+     * to in {@code references}.
+     */
+    public void resolveFriends(Person person, XmlPersonReferences references) {
+        for (XmlAdaptedFriend friend : friends) {
+            Friend resolved = friend.toModelType(references);
+            if (person.getFriends().remove(friend.toModelType())) {
+                person.getFriends().add(resolved);
+            }
+        }
     }
 
+    public String getId() {
+        return id;
+    }
+
+    //@@author
+
     public String getName() {
         return name;
     }
@@ -255,11 +329,13 @@ public class XmlAdaptedPerson {
         }
 
         XmlAdaptedPerson otherPerson = (XmlAdaptedPerson) other;
-        return Objects.equals(name, otherPerson.name)
+        return Objects.equals(id, otherPerson.id)
+            && Objects.equals(name, otherPerson.name)
             && Objects.equals(phone, otherPerson.phone)
             && Objects.equals(email, otherPerson.email)
             && Objects.equals(password, otherPerson.password)
             && Objects.equals(address, otherPerson.address)
+            && Objects.equals(schedule, otherPerson.schedule)
             && interests.equals(otherPerson.interests)
             && tagged.equals(otherPerson.tagged)
             && friends.equals(otherPerson.friends);
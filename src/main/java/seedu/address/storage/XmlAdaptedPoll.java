@@ -49,28 +49,53 @@ public class XmlAdaptedPoll {
      *
      * @param source future changes to this will not affect the created XmlAdaptedPerson
      */
-    public XmlAdaptedPoll(AbstractPoll source) {
+    public XmlAdaptedPoll(AbstractPoll source, XmlPersonReferences references) {
         id = Integer.toString(source.getId());
         name = source.getPollName();
         options = source.getPollData()
                 .entrySet()
                 .stream()
-                .map(e -> new XmlAdaptedPollEntry(e.getKey(), e.getValue()))
+                .map(e -> new XmlAdaptedPollEntry(e.getKey(), e.getValue(), references))
                 .collect(Collectors.toList());
     }
 
+    //@@author adjscent
+    /**
+     * Converts a given Poll into this class for JAXB use, referring to each voter by the id it holds.
+     */
+    public XmlAdaptedPoll(AbstractPoll source) {
+        this(source, new XmlPersonReferences(source.getPollData().values().stream()
+                .flatMap(voters -> voters.asUnmodifiableObservableList().stream())
+                .collect(Collectors.toList())));
+    }
+
+    //@@author theJrLinguist
     /**
      * Converts this jaxb-friendly adapted event object into the model's Poll object.
      */
-    public Poll toModelType() {
+    public Poll toModelType(XmlPersonReferences references) {
         HashMap<String, UniquePersonList> pollData = new HashMap<>();
         for (XmlAdaptedPollEntry entry : options) {
-            pollData.put(entry.getOptionName(), entry.getPersonList());
+            pollData.put(entry.getOptionName(), entry.getPersonList(references));
         }
         Poll poll = new Poll(Integer.valueOf(id), name, pollData);
         return poll;
     }
 
+    //@@author adjscent
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<XmlAdaptedPollEntry> getOptions() {
+        return options;
+    }
+
+    //@@author theJrLinguist
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -9,7 +9,6 @@ import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -21,7 +20,6 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class XmlAdaptedPollEntry {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Poll option's %s field is missing!";
     private static final Logger logger = LogsCenter.getLogger(XmlAdaptedPollEntry.class);
-    private static ObservableList<Person> personList;
 
     @XmlElement(required = true)
     private String name;
@@ -36,26 +34,32 @@ public class XmlAdaptedPollEntry {
     public XmlAdaptedPollEntry() {}
 
     /**
-     * Constructs an {@code XmlAdaptedPollEntry} with the given poll entry details.
+     * Constructs an {@code XmlAdaptedPollEntry} with the given poll entry details, referring to voters by their
+     * ids in {@code references}.
      */
-    public XmlAdaptedPollEntry(String name, UniquePersonList voterList) {
+    public XmlAdaptedPollEntry(String name, UniquePersonList voterList, XmlPersonReferences references) {
         this.name = name;
         if (voterList != null) {
             this.voterList = voterList.asUnmodifiableObservableList()
                     .stream()
-                    .map(person -> String.valueOf(personList.indexOf(person)))
+                    .map(references::getId)
                     .map(XmlPersonIndex::new)
                     .collect(Collectors.toList());
         }
     }
 
+    //@@author adjscent
     /**
-     * Provides reference to the person list of the event organiser.
+     * Constructs an {@code XmlAdaptedPollEntry} with the given option name and voter indexes.
      */
-    public static void setPersonList(ObservableList<Person> organiserPersonList) {
-        personList = organiserPersonList;
+    public XmlAdaptedPollEntry(String name, List<XmlPersonIndex> voterList) {
+        this.name = name;
+        if (voterList != null) {
+            this.voterList = new ArrayList<>(voterList);
+        }
     }
 
+    //@@author theJrLinguist
     public String getOptionName() {
         return name;
     }
@@ -63,11 +67,11 @@ public class XmlAdaptedPollEntry {
     /**
      * Returns a UniquePersonList constructed from the voter list stored by XmlPersonIndex.
      */
-    public UniquePersonList getPersonList() {
+    public UniquePersonList getPersonList(XmlPersonReferences references) {
         UniquePersonList persons = new UniquePersonList();
         for (XmlPersonIndex personIndex : voterList) {
             try {
-                Person modelPerson = personIndex.toModelType();
+                Person modelPerson = personIndex.toModelType(references);
                 persons.add(modelPerson);
             } catch (PersonNotFoundException e) {
                 logger.info("Person cannot be found and not added to voter list.");
@@ -76,6 +80,12 @@ public class XmlAdaptedPollEntry {
         return persons;
     }
 
+    //@@author adjscent
+    public List<XmlPersonIndex> getVoterList() {
+        return voterList;
+    }
+
+    //@@author theJrLinguist
     @Override
     public boolean equals(Object other) {
         if (other == this) {
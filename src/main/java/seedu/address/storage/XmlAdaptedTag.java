@@ -47,6 +47,12 @@ public class XmlAdaptedTag {
         return new Tag(tagName);
     }
 
+    //@@author adjscent
+    public String getTagName() {
+        return tagName;
+    }
+
+    //@@author
     @Override
     public boolean equals(Object other) {
         if (other == this) {
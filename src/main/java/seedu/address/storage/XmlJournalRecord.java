@@ -0,0 +1,135 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * JAXB-friendly change between two saved versions of the address book.
+ * The persons and the events each change by one splice: the items from {@code from} to {@code from + removed}
+ * are replaced by the inserted items.
+ */
+@XmlRootElement(name = "record")
+public class XmlJournalRecord {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal record does not fit the saved address book.";
+
+    @XmlAttribute
+    private int personsFrom;
+    @XmlAttribute
+    private int personsRemoved;
+    @XmlAttribute
+    private int eventsFrom;
+    @XmlAttribute
+    private int eventsRemoved;
+
+    @XmlElement
+    private List<XmlAdaptedPerson> persons = new ArrayList<>();
+    @XmlElement
+    private List<XmlAdaptedEvent> events = new ArrayList<>();
+
+    /**
+     * Constructs an XmlJournalRecord.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlJournalRecord() {}
+
+    /**
+     * Constructs the record that changes {@code oldPersons} and {@code oldEvents} into
+     * {@code newPersons} and {@code newEvents}
+     */
+    public XmlJournalRecord(List<XmlAdaptedPerson> oldPersons, List<XmlAdaptedPerson> newPersons,
+                            List<XmlAdaptedEvent> oldEvents, List<XmlAdaptedEvent> newEvents) {
+        personsFrom = commonPrefix(oldPersons, newPersons);
+        int personsKept = commonSuffix(oldPersons, newPersons, personsFrom);
+        personsRemoved = oldPersons.size() - personsFrom - personsKept;
+        persons.addAll(newPersons.subList(personsFrom, newPersons.size() - personsKept));
+
+        eventsFrom = commonPrefix(oldEvents, newEvents);
+        int eventsKept = commonSuffix(oldEvents, newEvents, eventsFrom);
+        eventsRemoved = oldEvents.size() - eventsFrom - eventsKept;
+        events.addAll(newEvents.subList(eventsFrom, newEvents.size() - eventsKept));
+    }
+
+    private static <T> int commonPrefix(List<T> oldItems, List<T> newItems) {
+        int length = Math.min(oldItems.size(), newItems.size());
+        int prefix = 0;
+        while (prefix < length && oldItems.get(prefix).equals(newItems.get(prefix))) {
+            prefix++;
+        }
+        return prefix;
+    }
+
+    private static <T> int commonSuffix(List<T> oldItems, List<T> newItems, int prefix) {
+        int length = Math.min(oldItems.size(), newItems.size()) - prefix;
+        int suffix = 0;
+        while (suffix < length && oldItems.get(oldItems.size() - 1 - suffix)
+                .equals(newItems.get(newItems.size() - 1 - suffix))) {
+            suffix++;
+        }
+        return suffix;
+    }
+
+    /**
+     * Returns true if the record changes nothing
+     */
+    public boolean isEmpty() {
+        return personsRemoved == 0 && persons.isEmpty() && eventsRemoved == 0 && events.isEmpty();
+    }
+
+    /**
+     * Applies the record to the saved persons and events
+     *
+     * @throws IllegalValueException if the record does not fit the lists, which are then left unchanged
+     */
+    public void applyTo(List<XmlAdaptedPerson> savedPersons, List<XmlAdaptedEvent> savedEvents)
+            throws IllegalValueException {
+        if (!fits(savedPersons, personsFrom, personsRemoved) || !fits(savedEvents, eventsFrom, eventsRemoved)) {
+            throw new IllegalValueException(MESSAGE_OUT_OF_RANGE);
+        }
+        splice(savedPersons, personsFrom, personsRemoved, persons);
+        splice(savedEvents, eventsFrom, eventsRemoved, events);
+    }
+
+    private static boolean fits(List<?> items, int from, int removed) {
+        return from >= 0 && removed >= 0 && from + removed <= items.size();
+    }
+
+    private static <T> void splice(List<T> items, int from, int removed, List<T> inserted) {
+        List<T> range = items.subList(from, from + removed);
+        range.clear();
+        range.addAll(inserted);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlJournalRecord)) {
+            return false;
+        }
+
+        XmlJournalRecord otherRecord = (XmlJournalRecord) other;
+        return personsFrom == otherRecord.personsFrom
+                && personsRemoved == otherRecord.personsRemoved
+                && eventsFrom == otherRecord.eventsFrom
+                && eventsRemoved == otherRecord.eventsRemoved
+                && persons.equals(otherRecord.persons)
+                && events.equals(otherRecord.events);
+    }
+
+    @Override
+    public int hashCode() {
+        // the adapted persons and events do not hash by value, so only their counts are hashed
+        return Objects.hash(personsFrom, personsRemoved, eventsFrom, eventsRemoved, persons.size(), events.size());
+    }
+}
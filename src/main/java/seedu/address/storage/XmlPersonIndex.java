@@ -5,17 +5,15 @@ import java.util.logging.Logger;
 
 import javax.xml.bind.annotation.XmlValue;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
- * JAXB-friendly index which refers to a person in the organiser.
+ * JAXB-friendly id which refers to a person in the organiser.
  */
 public class XmlPersonIndex {
     private static final Logger logger = LogsCenter.getLogger(XmlPersonIndex.class);
-    private static ObservableList<Person> personList;
 
     @XmlValue
     private String index;
@@ -33,25 +31,22 @@ public class XmlPersonIndex {
         this.index = index;
     }
 
+    //@@author adjscent
     /**
-     * Provides reference to the person list of the event organiser.
+     * Returns the model Person the id refers to.
      */
-    public static void setPersonList(ObservableList<Person> organiserPersonList) {
-        personList = organiserPersonList;
+    public Person toModelType(XmlPersonReferences references) throws PersonNotFoundException {
+        return references.getPerson(index).orElseThrow(() -> {
+            logger.info("No person with given id exists in event organiser");
+            return new PersonNotFoundException();
+        });
     }
 
-    /**
-     * Returns a model Person.
-     */
-    public Person toModelType() throws PersonNotFoundException {
-        try {
-            return personList.get(Integer.valueOf(index));
-        } catch (IndexOutOfBoundsException e) {
-            logger.info("No person with given index exists in event organiser");
-            throw new PersonNotFoundException();
-        }
+    public String getIndex() {
+        return index;
     }
 
+    //@@author theJrLinguist
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,69 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.person.Friend;
+import seedu.address.model.person.Person;
+
+/**
+ * Maps the persons of an address book to and from the ids that refer to them in the data file.
+ * Events, polls and friend lists refer to a person by its id, which stays the same as persons are added and
+ * removed, and both directions are a single lookup.
+ *
+ * @author adjscent
+ */
+public class XmlPersonReferences {
+
+    public static final String NO_PERSON = String.valueOf(Person.NO_ID);
+
+    private final Map<Person, String> idsByPerson = new HashMap<>();
+    private final Map<String, String> idsByFriend = new HashMap<>();
+    private final Map<String, Person> personsById = new HashMap<>();
+
+    /**
+     * Creates the references to {@code persons} by the ids they hold.
+     */
+    public XmlPersonReferences(Collection<Person> persons) {
+        for (Person person : persons) {
+            if (person == null || person.getId() == Person.NO_ID) {
+                continue;
+            }
+            String id = String.valueOf(person.getId());
+            idsByPerson.putIfAbsent(person, id);
+            idsByFriend.putIfAbsent(new Friend(person).friendAttributes, id);
+            personsById.putIfAbsent(id, person);
+        }
+    }
+
+    /**
+     * Returns the id that refers to {@code person}, or {@code NO_PERSON} if it is not one of the persons.
+     * A copy of a person is referred to by the same id, as persons are told apart by their name and password.
+     */
+    public String getId(Person person) {
+        if (person == null) {
+            return NO_PERSON;
+        }
+        return idsByPerson.getOrDefault(person, NO_PERSON);
+    }
+
+    /**
+     * Returns the id of the person {@code friend} stands for, if it is one of the persons.
+     */
+    public Optional<String> getId(Friend friend) {
+        return Optional.ofNullable(idsByFriend.get(friend.friendAttributes));
+    }
+
+    /**
+     * Returns the person {@code id} refers to, if any.
+     */
+    public Optional<Person> getPerson(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(personsById.get(id));
+    }
+}
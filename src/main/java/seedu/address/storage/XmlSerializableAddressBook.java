@@ -41,11 +41,59 @@ public class XmlSerializableAddressBook {
      */
     public XmlSerializableAddressBook(ReadOnlyAddressBook src) {
         this();
-        persons.addAll(src.getPersonList().stream().map(XmlAdaptedPerson::new).collect(Collectors.toList()));
-        XmlAdaptedEvent.setPersonList(src.getPersonList());
-        events.addAll(src.getEventList().stream().map(XmlAdaptedEvent::new).collect(Collectors.toList()));
+        XmlPersonReferences references = new XmlPersonReferences(src.getPersonList());
+        persons.addAll(src.getPersonList().stream()
+                .map(person -> new XmlAdaptedPerson(person, references))
+                .collect(Collectors.toList()));
+        events.addAll(src.getEventList().stream()
+                .map(event -> new XmlAdaptedEvent(event, references))
+                .collect(Collectors.toList()));
     }
 
+    //@@author adjscent
+    /**
+     * Creates an XmlSerializableAddressBook holding the given persons and events
+     */
+    XmlSerializableAddressBook(List<XmlAdaptedPerson> persons, List<XmlAdaptedEvent> events) {
+        this.persons = new ArrayList<>(persons);
+        this.events = new ArrayList<>(events);
+    }
+
+    List<XmlAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+    List<XmlAdaptedEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * Gives the converted {@code modelPersons} the ids that events referred to them by in files saved before
+     * persons had ids, which is their position in the file.
+     */
+    static void assignLegacyPersonIds(List<XmlAdaptedPerson> persons, List<Person> modelPersons) {
+        if (persons.stream().anyMatch(person -> person.getId() != null)) {
+            return;
+        }
+        for (int i = 0; i < modelPersons.size(); i++) {
+            modelPersons.get(i).setId(i);
+        }
+    }
+
+    /**
+     * Returns the references to the persons in {@code addressBook}, after pointing the friends of each person
+     * to the persons their ids refer to.
+     */
+    static XmlPersonReferences resolvePersonReferences(List<XmlAdaptedPerson> persons, AddressBook addressBook) {
+        List<Person> modelPersons = addressBook.getPersonList();
+        XmlPersonReferences references = new XmlPersonReferences(modelPersons);
+        for (int i = 0; i < modelPersons.size(); i++) {
+            persons.get(i).resolveFriends(modelPersons.get(i), references);
+        }
+        return references;
+    }
+
+    //@@author
     /**
      * Converts this addressbook into the model's {@code AddressBook} object.
      *
@@ -55,17 +103,20 @@ public class XmlSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
 
+        List<Person> modelPersons = new ArrayList<>();
         for (XmlAdaptedPerson p : persons) {
             Person person = p.toModelType();
-            if (addressBook.hasPerson(person)) {
+            if (modelPersons.stream().anyMatch(person::isSamePerson)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+            modelPersons.add(person);
         }
+        assignLegacyPersonIds(persons, modelPersons);
+        addressBook.setPersons(modelPersons);
 
-        XmlAdaptedEvent.setPersonList(addressBook.getPersonList());
+        XmlPersonReferences references = resolvePersonReferences(persons, addressBook);
         for (XmlAdaptedEvent p : events) {
-            Event event = p.toModelType();
+            Event event = p.toModelType(references);
             if (addressBook.hasEvent(event)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
@@ -0,0 +1,488 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Stores addressbook data in an XML file, reading and writing one person or event at a time with StAX.
+ * The file is the same as the one {@link XmlFileStorage} reads and writes through JAXB, and the persons and
+ * events are checked by the same {@code XmlAdapted*} rules.
+ */
+public class XmlStreamFileStorage {
+
+    private static final String ENCODING = "UTF-8";
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String INDENT = "    ";
+
+    private static final String ADDRESS_BOOK = "addressbook";
+    private static final String PERSONS = "persons";
+    private static final String EVENTS = "events";
+
+    private static final String NAME = "name";
+    private static final String PHONE = "phone";
+    private static final String EMAIL = "email";
+    private static final String PASSWORD = "password";
+    private static final String ADDRESS = "address";
+    private static final String SCHEDULE = "schedule";
+    private static final String INTERESTS = "interests";
+    private static final String TAGGED = "tagged";
+    private static final String FRIENDS = "friends";
+
+    private static final String ORGANISER = "organiser";
+    private static final String START_TIME = "startTime";
+    private static final String END_TIME = "endTime";
+    private static final String DATE = "date";
+    private static final String POLLS = "polls";
+    private static final String PARTICIPANTS = "participants";
+
+    private static final String ID = "id";
+    private static final String OPTIONS = "options";
+    private static final String VOTER_LIST = "voterList";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Receives the persons of the file as they are read.
+     */
+    private interface PersonReceiver {
+        void receive(XmlAdaptedPerson person) throws IllegalValueException;
+    }
+
+    //================ Saving ==============================
+
+    /**
+     * Saves the given addressbook data to the specified file.
+     */
+    public static void saveDataToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        List<Person> persons = addressBook.getPersonList();
+        List<Event> events = addressBook.getEventList();
+        XmlPersonReferences references = new XmlPersonReferences(persons);
+        saveDataToFile(file, () -> persons.stream()
+                .map(person -> new XmlAdaptedPerson(person, references)).iterator(), () -> events.stream()
+                .map(event -> new XmlAdaptedEvent(event, references)).iterator());
+    }
+
+    /**
+     * Saves the given addressbook data to the specified file.
+     */
+    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        saveDataToFile(file, addressBook.getPersons(), addressBook.getEvents());
+    }
+
+    private static void saveDataToFile(Path file, Iterable<XmlAdaptedPerson> persons,
+                                       Iterable<XmlAdaptedEvent> events) throws IOException {
+        requireNonNull(file);
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            // written by hand, as StAX cannot mark the document standalone the way JAXB does
+            out.write(XML_DECLARATION.getBytes(StandardCharsets.UTF_8));
+            XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out, ENCODING);
+            Iterator<XmlAdaptedPerson> personIterator = persons.iterator();
+            Iterator<XmlAdaptedEvent> eventIterator = events.iterator();
+            writer.writeCharacters("\n");
+            if (!personIterator.hasNext() && !eventIterator.hasNext()) {
+                writer.writeEmptyElement(ADDRESS_BOOK);
+            } else {
+                writer.writeStartElement(ADDRESS_BOOK);
+                while (personIterator.hasNext()) {
+                    writePerson(writer, personIterator.next());
+                }
+                while (eventIterator.hasNext()) {
+                    writeEvent(writer, eventIterator.next());
+                }
+                writer.writeCharacters("\n");
+                writer.writeEndElement();
+            }
+            writer.writeCharacters("\n");
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void writePerson(XMLStreamWriter writer, XmlAdaptedPerson person) throws XMLStreamException {
+        int depth = 1;
+        writeStart(writer, depth, PERSONS);
+        writeText(writer, depth + 1, ID, person.getId());
+        writeText(writer, depth + 1, NAME, person.getName());
+        writeText(writer, depth + 1, PHONE, person.getPhone());
+        writeText(writer, depth + 1, EMAIL, person.getEmail());
+        writeText(writer, depth + 1, PASSWORD, person.getPassword());
+        writeText(writer, depth + 1, ADDRESS, person.getAddress());
+        writeText(writer, depth + 1, SCHEDULE, person.getSchedule());
+        for (XmlAdaptedInterest interest : person.getInterests()) {
+            writeText(writer, depth + 1, INTERESTS, interest.getInterestName());
+        }
+        for (XmlAdaptedTag tag : person.getTagged()) {
+            writeText(writer, depth + 1, TAGGED, tag.getTagName());
+        }
+        for (XmlAdaptedFriend friend : person.getFriends()) {
+            writeFriend(writer, depth + 1, friend);
+        }
+        writeEnd(writer, depth);
+    }
+
+    private static void writeFriend(XMLStreamWriter writer, int depth, XmlAdaptedFriend friend)
+            throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeStartElement(FRIENDS);
+        if (friend.getId() != null) {
+            writer.writeAttribute(ID, friend.getId());
+        }
+        if (friend.getFriendAttributes() != null) {
+            writer.writeCharacters(friend.getFriendAttributes());
+        }
+        writer.writeEndElement();
+    }
+
+    private static void writeEvent(XMLStreamWriter writer, XmlAdaptedEvent event) throws XMLStreamException {
+        int depth = 1;
+        writeStart(writer, depth, EVENTS);
+        writeText(writer, depth + 1, ID, event.getId());
+        writeText(writer, depth + 1, NAME, event.getName());
+        writeText(writer, depth + 1, ADDRESS, event.getAddress());
+        writeText(writer, depth + 1, ORGANISER, event.getOrganiser());
+        writeText(writer, depth + 1, START_TIME, event.getStartTime());
+        writeText(writer, depth + 1, END_TIME, event.getEndTime());
+        writeText(writer, depth + 1, DATE, event.getDate());
+        for (XmlAdaptedTag tag : event.getTagged()) {
+            writeText(writer, depth + 1, TAGGED, tag.getTagName());
+        }
+        for (XmlAdaptedPoll poll : event.getPolls()) {
+            writePoll(writer, depth + 1, poll);
+        }
+        for (XmlPersonIndex participant : event.getParticipants()) {
+            writeText(writer, depth + 1, PARTICIPANTS, participant.getIndex());
+        }
+        writeEnd(writer, depth);
+    }
+
+    private static void writePoll(XMLStreamWriter writer, int depth, XmlAdaptedPoll poll)
+            throws XMLStreamException {
+        writeStart(writer, depth, POLLS);
+        writeText(writer, depth + 1, ID, poll.getId());
+        writeText(writer, depth + 1, NAME, poll.getName());
+        for (XmlAdaptedPollEntry option : poll.getOptions()) {
+            if (option.getOptionName() == null && option.getVoterList().isEmpty()) {
+                writeEmpty(writer, depth + 1, OPTIONS);
+                continue;
+            }
+            writeStart(writer, depth + 1, OPTIONS);
+            writeText(writer, depth + 2, NAME, option.getOptionName());
+            for (XmlPersonIndex voter : option.getVoterList()) {
+                writeText(writer, depth + 2, VOTER_LIST, voter.getIndex());
+            }
+            writeEnd(writer, depth + 1);
+        }
+        writeEnd(writer, depth);
+    }
+
+    private static void indent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        StringBuilder indent = new StringBuilder("\n");
+        for (int i = 0; i < depth; i++) {
+            indent.append(INDENT);
+        }
+        writer.writeCharacters(indent.toString());
+    }
+
+    private static void writeStart(XMLStreamWriter writer, int depth, String element) throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeStartElement(element);
+    }
+
+    private static void writeEnd(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeEndElement();
+    }
+
+    private static void writeEmpty(XMLStreamWriter writer, int depth, String element) throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeEmptyElement(element);
+    }
+
+    /**
+     * Writes an element holding {@code text}, or nothing if {@code text} is null, as JAXB does
+     */
+    private static void writeText(XMLStreamWriter writer, int depth, String element, String text)
+            throws XMLStreamException {
+        if (text == null) {
+            return;
+        }
+        indent(writer, depth);
+        writer.writeStartElement(element);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    //================ Loading ==============================
+
+    /**
+     * Returns the address book in the file.
+     *
+     * @throws DataConversionException if the file is not an address book file.
+     * @throws IllegalValueException if a person or event in the file is invalid, or the persons or events
+     *     contain duplicates.
+     */
+    public static AddressBook loadDataFromSaveFile(Path file) throws DataConversionException,
+            IllegalValueException, IOException {
+        // persons and events are converted on every processor once the whole file is read
+        XmlSerializableAddressBook addressBook = loadSerializableDataFromSaveFile(file);
+        return ParallelAddressBookLoader.toModelType(addressBook.getPersons(), addressBook.getEvents());
+    }
+
+    /**
+     * Returns the address book in the file as it is stored, without checking its persons and events.
+     *
+     * @throws DataConversionException if the file is not an address book file.
+     */
+    public static XmlSerializableAddressBook loadSerializableDataFromSaveFile(Path file)
+            throws DataConversionException, IOException {
+        List<XmlAdaptedPerson> persons = new ArrayList<>();
+        try {
+            List<XmlAdaptedEvent> events = readFile(file, persons::add);
+            return new XmlSerializableAddressBook(persons, events);
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("Persons are not checked while they are read", ive);
+        }
+    }
+
+    /**
+     * Reads the file, handing each person to {@code personReceiver} as it is read.
+     *
+     * @return the events in the file
+     */
+    private static List<XmlAdaptedEvent> readFile(Path file, PersonReceiver personReceiver)
+            throws DataConversionException, IllegalValueException, IOException {
+        requireNonNull(file);
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        List<XmlAdaptedEvent> events = new ArrayList<>();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                reader.nextTag();
+                if (!ADDRESS_BOOK.equals(reader.getLocalName())) {
+                    throw new DataConversionException(new IllegalValueException(
+                            "Unexpected element " + reader.getLocalName()));
+                }
+                while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                    case PERSONS:
+                        personReceiver.receive(readPerson(reader));
+                        break;
+                    case EVENTS:
+                        events.add(readEvent(reader));
+                        break;
+                    default:
+                        skipElement(reader);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new DataConversionException(e);
+        }
+        return events;
+    }
+
+    private static XmlAdaptedPerson readPerson(XMLStreamReader reader) throws XMLStreamException {
+        String id = null;
+        String name = null;
+        String phone = null;
+        String email = null;
+        String password = null;
+        String address = null;
+        String schedule = null;
+        List<XmlAdaptedInterest> interests = new ArrayList<>();
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        List<XmlAdaptedFriend> friends = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case ID:
+                id = reader.getElementText();
+                break;
+            case NAME:
+                name = reader.getElementText();
+                break;
+            case PHONE:
+                phone = reader.getElementText();
+                break;
+            case EMAIL:
+                email = reader.getElementText();
+                break;
+            case PASSWORD:
+                password = reader.getElementText();
+                break;
+            case ADDRESS:
+                address = reader.getElementText();
+                break;
+            case SCHEDULE:
+                schedule = reader.getElementText();
+                break;
+            case INTERESTS:
+                interests.add(new XmlAdaptedInterest(reader.getElementText()));
+                break;
+            case TAGGED:
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            case FRIENDS:
+                String friendId = reader.getAttributeValue(null, ID);
+                friends.add(new XmlAdaptedFriend(reader.getElementText(), friendId));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedPerson(id, name, phone, email, password, address, schedule, interests, tagged,
+                friends);
+    }
+
+    private static XmlAdaptedEvent readEvent(XMLStreamReader reader) throws XMLStreamException {
+        String id = null;
+        String name = null;
+        String address = null;
+        String organiser = null;
+        String startTime = null;
+        String endTime = null;
+        String date = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        List<XmlAdaptedPoll> polls = new ArrayList<>();
+        List<XmlPersonIndex> participants = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case ID:
+                id = reader.getElementText();
+                break;
+            case NAME:
+                name = reader.getElementText();
+                break;
+            case ADDRESS:
+                address = reader.getElementText();
+                break;
+            case ORGANISER:
+                organiser = reader.getElementText();
+                break;
+            case START_TIME:
+                startTime = reader.getElementText();
+                break;
+            case END_TIME:
+                endTime = reader.getElementText();
+                break;
+            case DATE:
+                date = reader.getElementText();
+                break;
+            case TAGGED:
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            case POLLS:
+                polls.add(readPoll(reader));
+                break;
+            case PARTICIPANTS:
+                participants.add(new XmlPersonIndex(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedEvent(id, name, address, organiser, date, startTime, endTime, tagged, polls,
+                participants);
+    }
+
+    private static XmlAdaptedPoll readPoll(XMLStreamReader reader) throws XMLStreamException {
+        String id = null;
+        String name = null;
+        List<XmlAdaptedPollEntry> options = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case ID:
+                id = reader.getElementText();
+                break;
+            case NAME:
+                name = reader.getElementText();
+                break;
+            case OPTIONS:
+                options.add(readPollEntry(reader));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedPoll(id, name, options);
+    }
+
+    private static XmlAdaptedPollEntry readPollEntry(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        List<XmlPersonIndex> voterList = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case NAME:
+                name = reader.getElementText();
+                break;
+            case VOTER_LIST:
+                voterList.add(new XmlPersonIndex(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedPollEntry(name, voterList);
+    }
+
+    /**
+     * Skips the element the reader is at, as JAXB ignores unknown elements
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+}
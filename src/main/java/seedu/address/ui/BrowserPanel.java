@@ -3,6 +3,8 @@ package seedu.address.ui;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -16,7 +18,9 @@ import javafx.scene.layout.Region;
 import javafx.scene.web.WebView;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ui.DisplayHeatmapEvent;
 import seedu.address.commons.events.ui.PersonToEventPopulateEvent;
+import seedu.address.model.person.AvailabilityHeatmap;
 import seedu.address.model.person.Person;
 
 /**
@@ -27,6 +31,7 @@ public class BrowserPanel extends UiPart<Region> {
     public static final String DEFAULT_PAGE = "default.html";
     public static final String PERSON_PAGE = "browsePerson.html";
     public static final String EVENT_PAGE = "browseEvent.html";
+    public static final String HEATMAP_PAGE = "browseHeatmap.html";
     public static final String SEARCH_PAGE_URL =
         "https://se-edu.github.io/addressbook-level4/DummySearchPage.html?name=";
 
@@ -34,6 +39,10 @@ public class BrowserPanel extends UiPart<Region> {
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
+    // templates inside the jar do not change, so each is read and parsed only once
+    private final Map<String, String> resourceHtmlCache = new HashMap<>();
+    private final Map<String, MessageFormat> templateCache = new HashMap<>();
+
     @FXML
     private WebView browser;
 
@@ -53,8 +62,6 @@ public class BrowserPanel extends UiPart<Region> {
      * @param person
      */
     private void loadPersonPage(Person person, ObservableList<seedu.address.model.event.Event> events) {
-        String resourceHtml = readResourceHtml(PERSON_PAGE);
-
         // replace the template with person stuff
         Object[] params = new Object[] {
             person.getName(),
@@ -69,7 +76,7 @@ public class BrowserPanel extends UiPart<Region> {
                 .stream().map(u -> u.getName().value).collect(Collectors.joining(", ")),
             person.getSchedule().prettyPrint(),
         };
-        String html = MessageFormat.format(resourceHtml, params);
+        String html = getTemplate(PERSON_PAGE).format(params);
 
         Platform.runLater(() -> {
                 browser.getEngine().loadContent(html);
@@ -78,11 +85,48 @@ public class BrowserPanel extends UiPart<Region> {
     }
 
     /**
-     * Reads resource html inside the jar
+     * Load an availability heatmap into browser panel
+     *
+     * @param title
+     * @param heatmap
+     */
+    private void loadHeatmapPage(String title, AvailabilityHeatmap heatmap) {
+        Object[] params = new Object[] {
+            title,
+            heatmap.prettyPrint(),
+        };
+        String html = getTemplate(HEATMAP_PAGE).format(params);
+
+        Platform.runLater(() -> {
+                browser.getEngine().loadContent(html);
+            }
+        );
+    }
+
+    /**
+     * Returns the parsed template of a resource html, parsing it on first use
+     * @param filename
+     * @return
+     */
+    private MessageFormat getTemplate(String filename) {
+        return templateCache.computeIfAbsent(filename, f -> new MessageFormat(readResourceHtml(f)));
+    }
+
+    /**
+     * Returns the resource html inside the jar, reading it on first use
      * @param filename
      * @return
      */
     private String readResourceHtml(String filename) {
+        return resourceHtmlCache.computeIfAbsent(filename, this::readResourceHtmlFromJar);
+    }
+
+    /**
+     * Reads resource html inside the jar
+     * @param filename
+     * @return
+     */
+    private String readResourceHtmlFromJar(String filename) {
         StringBuilder sb = new StringBuilder();
         try {
             BufferedInputStream bin = new BufferedInputStream(
@@ -131,4 +175,11 @@ public class BrowserPanel extends UiPart<Region> {
 
     }
 
+    //@@author adjscent
+    @Subscribe
+    private void handleDisplayHeatmapEvent(DisplayHeatmapEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        loadHeatmapPage(event.title, event.heatmap);
+    }
+
 }
@@ -0,0 +1,154 @@
+//@@author adjscent
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Lesson;
+
+public class ModuleCacheTest {
+
+    private static final Path SEED_FOLDER = Paths.get("src", "test", "data", "ModuleCacheTest", "seed");
+    private static final String ACAD_YEAR = "2018-2019";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        TimeTableUtil.setModuleCache(null);
+    }
+
+    private ModuleCache createCache(Duration timeToLive, int maxEntries, boolean isOffline) throws IOException {
+        return new ModuleCache(testFolder.getRoot().toPath().resolve("modules"), timeToLive, maxEntries, isOffline);
+    }
+
+    private static String readSeed(String moduleCode) throws IOException {
+        return new String(Files.readAllBytes(SEED_FOLDER.resolve(ACAD_YEAR).resolve("1")
+                .resolve(moduleCode + ".json")), "UTF-8");
+    }
+
+    @Test
+    public void get_missingEntry_empty() throws IOException {
+        ModuleCache cache = createCache(Duration.ofDays(1), 10, false);
+        assertFalse(cache.get(ACAD_YEAR, 1, "CS2103").isPresent());
+    }
+
+    @Test
+    public void put_thenGet_sameJson() throws IOException {
+        ModuleCache cache = createCache(Duration.ofDays(1), 10, false);
+        cache.put(ACAD_YEAR, 1, "CS2103", "{}");
+        assertEquals("{}", cache.get(ACAD_YEAR, 1, "CS2103").get());
+        assertFalse(cache.get(ACAD_YEAR, 2, "CS2103").isPresent());
+
+        // entries survive reopening the cache
+        assertEquals("{}", createCache(Duration.ofDays(1), 10, false).get(ACAD_YEAR, 1, "CS2103").get());
+    }
+
+    @Test
+    public void get_staleEntry_servedOnlyWhenOffline() throws IOException {
+        ModuleCache cache = createCache(Duration.ofDays(1), 10, false);
+        cache.put(ACAD_YEAR, 1, "CS2103", "{}");
+        Path file = cache.getCacheDirectory().resolve(ACAD_YEAR).resolve("1").resolve("CS2103.json");
+        long twoDaysAgo = System.currentTimeMillis() - Duration.ofDays(2).toMillis();
+        Files.setLastModifiedTime(file, FileTime.fromMillis(twoDaysAgo));
+
+        ModuleCache reopened = createCache(Duration.ofDays(1), 10, false);
+        assertFalse(reopened.get(ACAD_YEAR, 1, "CS2103").isPresent());
+        reopened.setOffline(true);
+        assertEquals("{}", reopened.get(ACAD_YEAR, 1, "CS2103").get());
+    }
+
+    @Test
+    public void put_overMaxEntries_oldestEvicted() throws IOException {
+        ModuleCache cache = createCache(Duration.ofDays(1), 2, false);
+        cache.put(ACAD_YEAR, 1, "CS2101", "{}");
+        cache.put(ACAD_YEAR, 1, "CS2102", "{}");
+        cache.put(ACAD_YEAR, 1, "CS2101", "{}");
+        cache.put(ACAD_YEAR, 1, "CS2103", "{}");
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.get(ACAD_YEAR, 1, "CS2102").isPresent());
+        assertTrue(cache.get(ACAD_YEAR, 1, "CS2101").isPresent());
+        assertTrue(cache.get(ACAD_YEAR, 1, "CS2103").isPresent());
+        assertFalse(Files.exists(cache.getCacheDirectory().resolve(ACAD_YEAR).resolve("1").resolve("CS2102.json")));
+    }
+
+    @Test
+    public void put_invalidKey_throwsIllegalArgumentException() throws IOException {
+        ModuleCache cache = createCache(Duration.ofDays(1), 10, false);
+        assertThrows(IllegalArgumentException.class, () -> cache.put(ACAD_YEAR, 1, "../CS2103", "{}"));
+        assertThrows(IllegalArgumentException.class, () -> cache.put("2018", 1, "CS2103", "{}"));
+    }
+
+    @Test
+    public void preseed_seedDirectory_modulesCached() throws IOException {
+        ModuleCache cache = createCache(Duration.ofDays(1), 10, true);
+        assertEquals(2, cache.preseed(SEED_FOLDER));
+        assertEquals(2, cache.size());
+        assertEquals(readSeed("CS2105"), cache.get(ACAD_YEAR, 1, "CS2105").get());
+    }
+
+    @Test
+    public void preseed_newerCachedEntry_keptAndSeedTimeKept() throws IOException {
+        ModuleCache cache = createCache(Duration.ofDays(1), 10, false);
+        cache.put(ACAD_YEAR, 1, "CS2103", "{}");
+        assertEquals(1, cache.preseed(SEED_FOLDER));
+        assertEquals("{}", cache.get(ACAD_YEAR, 1, "CS2103").get());
+
+        // the seeded entry is as old as its seed file, not stamped with the time it was copied
+        Path seeded = cache.getCacheDirectory().resolve(ACAD_YEAR).resolve("1").resolve("CS2105.json");
+        assertEquals(Files.getLastModifiedTime(SEED_FOLDER.resolve(ACAD_YEAR).resolve("1").resolve("CS2105.json")),
+                Files.getLastModifiedTime(seeded));
+
+        // seeding again copies nothing
+        assertEquals(0, cache.preseed(SEED_FOLDER));
+    }
+
+    @Test
+    public void obtainModuleInfoFromApi_offlineCache_servedWithoutNetwork() throws Exception {
+        ModuleCache cache = createCache(Duration.ofDays(1), 10, true);
+        int year = LocalDate.now().getYear();
+        cache.put(year + "-" + (year + 1), 1, "CS2103", readSeed("CS2103"));
+        TimeTableUtil.setModuleCache(cache);
+
+        ArrayList<Lesson> lessons = TimeTableUtil.obtainModuleInfoFromApi("CS2103", 1);
+        assertEquals(3, lessons.size());
+        assertEquals(2, TimeTableUtil.parseModule("CS2103=LEC:1,TUT:01", "sem-1").size());
+
+        // offline, uncached modules are not downloaded
+        assertThrows(ParseException.class, () -> TimeTableUtil.obtainModuleInfoFromApi("CS2105", 1));
+    }
+
+    @Test
+    public void parseUrl_offlineCache_onlyLongLinksServed() throws Exception {
+        ModuleCache cache = createCache(Duration.ofDays(1), 10, true);
+        int year = LocalDate.now().getYear();
+        cache.put(year + "-" + (year + 1), 1, "CS2103", readSeed("CS2103"));
+        TimeTableUtil.setModuleCache(cache);
+
+        assertFalse(TimeTableUtil.parseUrl("https://nusmods.com/timetable/sem-1/share?CS2103=LEC:1,TUT:01")
+                .convertToSchedule().valueToString().matches("0*"));
+
+        // resolving a short link needs the network
+        assertThrows(ParseException.class, TimeTableUtil.SHORT_URL_OFFLINE, () ->
+                TimeTableUtil.parseUrl("http://modsn.us/H4v8s"));
+    }
+}
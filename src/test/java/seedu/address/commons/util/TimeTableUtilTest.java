@@ -1,14 +1,41 @@
 //@@author adjscent
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fasterxml.jackson.core.JsonParseException;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Lesson;
+import seedu.address.testutil.StubModuleServer;
 
 public class TimeTableUtilTest {
 
+    private static final Path SEED_FOLDER = Paths.get("src", "test", "data", "ModuleCacheTest", "seed",
+            "2018-2019", "1");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
 
     /*
      * Test Line
@@ -105,4 +132,117 @@ public class TimeTableUtilTest {
             .valueToString().contains("1");
 
     }
+
+    @After
+    public void tearDown() {
+        TimeTableUtil.setTimetableSource(new NusModsTimetableSource());
+    }
+
+    /**
+     * Starts a stub api serving the seed modules, and CS2101 and CS2102 as copies of CS2103, for this semester 1
+     */
+    private StubModuleServer startStubServer() throws IOException {
+        int year = LocalDate.now().getYear();
+        Path modules = testFolder.getRoot().toPath().resolve(year + "-" + (year + 1)).resolve("1").resolve("modules");
+        Files.createDirectories(modules);
+        Files.copy(SEED_FOLDER.resolve("CS2103.json"), modules.resolve("CS2101.json"));
+        Files.copy(SEED_FOLDER.resolve("CS2103.json"), modules.resolve("CS2102.json"));
+        Files.copy(SEED_FOLDER.resolve("CS2103.json"), modules.resolve("CS2103.json"));
+        Files.copy(SEED_FOLDER.resolve("CS2105.json"), modules.resolve("CS2105.json"));
+        StubModuleServer server = new StubModuleServer(testFolder.getRoot().toPath());
+        TimeTableUtil.setTimetableSource(new NusModsTimetableSource(server.getBaseUrl()));
+        return server;
+    }
+
+    @Test
+    public void downloadLongUrl_slowModules_downloadedConcurrently() throws IOException {
+        try (StubModuleServer server = startStubServer()) {
+            server.setDelayMillis(600);
+            // one after another the three modules would take 1800ms
+            TimeTableDownload download = TimeTableUtil.downloadLongUrl("https://nusmods.com/timetable/sem-1/"
+                    + "share?CS2101=LEC:1,TUT:01&CS2102=LEC:1,TUT:02&CS2105=LEC:1,TUT:09", 1500);
+            assertTrue(download.getErrorMessage(), download.isComplete());
+            assertEquals(6, download.getTimeTable().getLessonList().size());
+            assertEquals(3, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void downloadLongUrl_missingModule_partialResult() throws Exception {
+        try (StubModuleServer server = startStubServer()) {
+            String link = "https://nusmods.com/timetable/sem-1/share?CS2103=LEC:1,TUT:01&CS9999=LEC:1";
+            TimeTableDownload download = TimeTableUtil.downloadLongUrl(link, TimeTableUtil.DOWNLOAD_DEADLINE_MILLIS);
+            assertFalse(download.isComplete());
+            assertEquals(2, download.getTimeTable().getLessonList().size());
+            assertEquals(TimeTableUtil.API_CALL_FAILURE, download.getModuleErrors().get("CS9999"));
+            assertFalse(download.getModuleErrors().containsKey("CS2103"));
+
+            // a timetable missing a module is not accepted as a user's timetable
+            assertThrows(ParseException.class, () -> TimeTableUtil.parseLongUrl(link));
+        }
+    }
+
+    @Test
+    public void downloadLongUrl_pastDeadline_timedOut() throws IOException {
+        try (StubModuleServer server = startStubServer()) {
+            server.setDelayMillis(600);
+            TimeTableDownload download = TimeTableUtil.downloadLongUrl("https://nusmods.com/timetable/sem-1/"
+                    + "share?CS2105=LEC:1,TUT:09", 100);
+            assertEquals(0, download.getTimeTable().getLessonList().size());
+            assertEquals(TimeTableUtil.DOWNLOAD_TIMEOUT, download.getModuleErrors().get("CS2105"));
+        }
+    }
+
+    @Test
+    public void downloadAll_sharedModules_downloadedOnce() throws IOException {
+        try (StubModuleServer server = startStubServer()) {
+            Map<String, String> links = new LinkedHashMap<>();
+            links.put("first", "https://nusmods.com/timetable/sem-1/share?CS2103=LEC:1,TUT:01");
+            links.put("second", "https://nusmods.com/timetable/sem-1/share?CS2103=LEC:1,TUT:02&CS2105=LEC:1,TUT:09");
+            links.put("third", "https://nusmods.com/timetable/sem-x/share?CS2103=LEC:1");
+
+            Map<String, TimeTableDownload> downloads = TimeTableUtil.downloadAll(links,
+                    TimeTableUtil.DOWNLOAD_DEADLINE_MILLIS);
+            assertEquals(2, downloads.get("first").getTimeTable().getLessonList().size());
+            assertEquals(4, downloads.get("second").getTimeTable().getLessonList().size());
+            assertEquals(TimeTableUtil.INVALID_URL, downloads.get("third").getModuleErrors().get(links.get("third")));
+            assertEquals(2, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void parseModuleJson_chosenSlots_otherLessonsSkipped() throws Exception {
+        String json = new String(Files.readAllBytes(SEED_FOLDER.resolve("CS2103.json")), "UTF-8");
+        assertEquals(3, TimeTableUtil.parseModuleJson("CS2103", json, null).size());
+
+        List<Lesson> lessons = TimeTableUtil.parseModuleJson("CS2103", json,
+                new HashSet<>(Arrays.asList("LEC:1", "TUT:02")));
+        assertEquals(2, lessons.size());
+        assertEquals("Lecture", lessons.get(0).getLessonType());
+        assertEquals("02", lessons.get(1).getClassNo());
+        assertEquals("1100", lessons.get(1).getStartTime());
+    }
+
+    @Test
+    public void parseModuleJson_irrelevantFields_skipped() throws Exception {
+        String json = "{\"ModuleDescription\": \"long text\", \"Workload\": [2, 1, 0, 3, 4],"
+                + " \"History\": [{\"Semester\": 1, \"Timetable\": []}],"
+                + " \"Timetable\": [{\"ClassNo\": 1, \"LessonType\": \"Lecture\", \"Venue\": {\"x\": 1},"
+                + " \"WeekText\": \"Every Week\", \"DayText\": \"Monday\", \"StartTime\": \"0800\","
+                + " \"EndTime\": \"1000\"}], \"Prerequisite\": null}";
+        List<Lesson> lessons = TimeTableUtil.parseModuleJson("CS1010", json, null);
+        assertEquals(1, lessons.size());
+        assertEquals("1", lessons.get(0).getClassNo());
+        assertEquals(2, lessons.get(0).getDuration());
+    }
+
+    @Test
+    public void parseModuleJson_invalidJson_throwsException() {
+        assertThrows(ParseException.class, () -> TimeTableUtil.parseModuleJson("CS2103", "{}", null));
+        assertThrows(ParseException.class, () -> TimeTableUtil.parseModuleJson("CS2103", "[]", null));
+        assertThrows(ParseException.class, () -> TimeTableUtil.parseModuleJson("CS2103",
+                "{\"Timetable\": [{\"ClassNo\": \"1\"}]}", null));
+        assertThrows(JsonParseException.class, () ->
+                TimeTableUtil.parseModuleJson("CS2103", "{\"Timetable\": [", null));
+    }
 }
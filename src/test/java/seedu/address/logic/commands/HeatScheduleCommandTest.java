@@ -0,0 +1,109 @@
+//@@author adjscent
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AvailabilityHeatmap;
+import seedu.address.model.person.Person;
+
+public class HeatScheduleCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test(expected = NullPointerException.class)
+    public void constructor_nullIndexes_throwsNullPointerException() {
+        new HeatScheduleCommand(null, null);
+    }
+
+    @Test
+    public void execute_noIndexesNoEventSelected_failure() {
+        HeatScheduleCommand command = new HeatScheduleCommand(new Index[0], null);
+        assertCommandFailure(command, model, commandHistory, Messages.MESSAGE_NO_EVENT_SELECTED);
+    }
+
+    @Test
+    public void execute_invalidIndex_failure() {
+        Index[] indexs = {INDEX_FIRST, Index.fromZeroBased(20)};
+        HeatScheduleCommand command = new HeatScheduleCommand(indexs, 1);
+        assertCommandFailure(command, model, commandHistory, HeatScheduleCommand.MESSAGE_PERSON_DOES_NOT_EXIST);
+    }
+
+    @Test
+    public void execute_minFreeLargerThanGroup_failure() {
+        Index[] indexs = {INDEX_FIRST, INDEX_SECOND};
+        HeatScheduleCommand command = new HeatScheduleCommand(indexs, 3);
+        assertCommandFailure(command, model, commandHistory, HeatScheduleCommand.MESSAGE_INVALID_MIN_FREE);
+    }
+
+    @Test
+    public void execute_minFreeGiven_heatmapResult() {
+        Index[] indexs = {INDEX_FIRST, INDEX_SECOND};
+        HeatScheduleCommand command = new HeatScheduleCommand(indexs, 1);
+
+        AvailabilityHeatmap heatmap = new AvailabilityHeatmap(getPersons(indexs));
+        String expectedMessage = String.format(HeatScheduleCommand.MESSAGE_SUCCESS, 1, 2,
+            heatmap.getScheduleWithMinFree(1).freeTimeToString());
+
+        // no change in model
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_minFreeOmitted_everyPersonRequired() {
+        Index[] indexs = {INDEX_FIRST, INDEX_SECOND};
+        HeatScheduleCommand command = new HeatScheduleCommand(indexs, null);
+
+        AvailabilityHeatmap heatmap = new AvailabilityHeatmap(getPersons(indexs));
+        String expectedMessage = String.format(HeatScheduleCommand.MESSAGE_SUCCESS, 2, 2,
+            heatmap.getScheduleWithMinFree(2).freeTimeToString());
+
+        // no change in model
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, model);
+    }
+
+    @Test
+    public void equals() {
+        Index[] indexs = {INDEX_FIRST, INDEX_SECOND};
+        HeatScheduleCommand command = new HeatScheduleCommand(indexs, 1);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new HeatScheduleCommand(new Index[] {INDEX_FIRST, INDEX_SECOND}, 1)));
+
+        // different minFree -> returns false
+        assertFalse(command.equals(new HeatScheduleCommand(indexs, 2)));
+
+        // different indexes -> returns false
+        assertFalse(command.equals(new HeatScheduleCommand(new Index[] {INDEX_FIRST}, 1)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+    }
+
+    private List<Person> getPersons(Index[] indexs) {
+        return Arrays.stream(indexs)
+            .map(index -> model.getFilteredPersonList().get(index.getZeroBased()))
+            .collect(Collectors.toList());
+    }
+}
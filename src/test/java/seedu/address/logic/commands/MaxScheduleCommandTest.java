@@ -13,12 +13,15 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Day;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Schedule;
 import seedu.address.model.person.Time;
+import seedu.address.testutil.PersonBuilder;
 
 
 public class MaxScheduleCommandTest {
@@ -90,4 +93,39 @@ public class MaxScheduleCommandTest {
         // no change in model
         assertCommandSuccess(maxScheduleCommand, model, commandHistory, expectedMessage, model);
     }
+
+    @Test
+    public void executeWithMinDuration() throws ParseException {
+        Person personToFind1 = model.getFilteredPersonList().get(INDEX_FIRST.getZeroBased());
+        Person personToFind2 = model.getFilteredPersonList().get(INDEX_SECOND.getZeroBased());
+
+        Index[] index = {
+            INDEX_FIRST, INDEX_SECOND
+        };
+        MaxScheduleCommand maxScheduleCommand = new MaxScheduleCommand(index, "0800-2359", 60);
+
+        Schedule newSchedule = Schedule.maxSchedule(personToFind1.getSchedule(), personToFind2.getSchedule());
+
+        String expectedMessage =
+            String.format(MaxScheduleCommand.MESSAGE_SUCCESS, newSchedule.freeBlocksToString(2, 16, Schedule.HOUR));
+
+        // no change in model
+        assertCommandSuccess(maxScheduleCommand, model, commandHistory, expectedMessage, model);
+    }
+
+    @Test
+    public void executeWithMinDuration_limitEndSlotIncluded() {
+        // only free on the first day in the slots starting at 0800, 0830 and 0900
+        long busy = (1L << Schedule.HOUR) - 1;
+        long[] rows = {busy & ~(0b111L << 16), busy, busy, busy, busy, busy, busy};
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withSchedule(Schedule.fromDayRows(rows).valueToString()).build());
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        // the limit includes the slot starting at its end, as it does without a minimum duration
+        MaxScheduleCommand maxScheduleCommand = new MaxScheduleCommand(new Index[] {INDEX_FIRST}, "0800-0900", 90);
+        String expectedMessage = String.format(MaxScheduleCommand.MESSAGE_SUCCESS, Day.VALIDDAYS[0] + ",0800-0930;");
+
+        assertCommandSuccess(maxScheduleCommand, model, commandHistory, expectedMessage, model);
+    }
 }
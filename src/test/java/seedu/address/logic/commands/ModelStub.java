@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -15,6 +16,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.MeetingTime;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
@@ -49,6 +51,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Person> getFreePersons(int fromSlot, int toSlot) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
         throw new AssertionError("This method should not be called.");
@@ -79,6 +86,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updatePersons(List<Person> targets, List<Person> editedPersons) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         throw new AssertionError("This method should not be called.");
@@ -189,6 +201,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public String addTimePoll(List<MeetingTime> meetingTimes) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public String voteOption(Index pollIndex, String optionName) {
         throw new AssertionError("This method should not be called.");
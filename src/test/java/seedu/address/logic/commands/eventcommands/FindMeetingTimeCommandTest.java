@@ -0,0 +1,94 @@
+//@@author adjscent
+package seedu.address.logic.commands.eventcommands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.MeetingTime;
+import seedu.address.model.event.MeetingTimeSolver;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.EventBuilder;
+
+public class FindMeetingTimeCommandTest {
+    private static final LocalDate START = LocalDate.of(2018, 10, 1);
+    private static final LocalDate END = LocalDate.of(2018, 10, 7);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    /**
+     * Returns an address book containing only the event.
+     */
+    private static AddressBook addressBookWith(Event event) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addEvent(event);
+        return addressBook;
+    }
+
+    @Test
+    public void execute_createPoll_success() {
+        FindMeetingTimeCommand command = new FindMeetingTimeCommand(START, END, 60, 3,
+                Collections.emptySet(), true);
+        // fresh events, as the typical events are shared between tests
+        Event event = new EventBuilder().withOrganiser(ALICE).build();
+        Model model = new ModelManager(addressBookWith(event), new UserPrefs());
+        model.setCurrentUser(ALICE);
+        model.setSelectedEvent(event);
+
+        Event expectedEvent = new EventBuilder().withOrganiser(ALICE).build();
+        Model expectedModel = new ModelManager(addressBookWith(expectedEvent), new UserPrefs());
+        expectedModel.setSelectedEvent(expectedEvent);
+        expectedModel.setCurrentUser(ALICE);
+        List<MeetingTime> meetingTimes = MeetingTimeSolver.forEvent(expectedEvent, Collections.emptySet())
+                .solve(START, END, 2, 3);
+        expectedModel.addTimePoll(meetingTimes);
+        expectedModel.commitAddressBook();
+
+        StringBuilder times = new StringBuilder();
+        for (int i = 0; i < meetingTimes.size(); i++) {
+            times.append(i + 1).append(". ").append(meetingTimes.get(i)).append("\n");
+        }
+        String expectedMessage = String.format(FindMeetingTimeCommand.MESSAGE_SUCCESS, event.getName(),
+                times.toString().trim());
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noEventSelected_failure() {
+        FindMeetingTimeCommand command = new FindMeetingTimeCommand(START, END, 60, 3,
+                Collections.emptySet(), false);
+        assertCommandFailure(command, model, commandHistory, Messages.MESSAGE_NO_EVENT_SELECTED);
+    }
+
+    @Test
+    public void execute_requiredNotParticipant_failure() {
+        Name stranger = new Name("Stranger");
+        FindMeetingTimeCommand command = new FindMeetingTimeCommand(START, END, 60, 3,
+                Collections.singleton(stranger), false);
+        model.setSelectedEvent(model.getFilteredEventList().get(0));
+        assertCommandFailure(command, model, commandHistory,
+                String.format(FindMeetingTimeCommand.MESSAGE_NOT_PARTICIPANT, stranger));
+    }
+
+    @Test
+    public void execute_invalidDateRange_failure() {
+        FindMeetingTimeCommand command = new FindMeetingTimeCommand(END, START, 60, 3,
+                Collections.emptySet(), false);
+        assertCommandFailure(command, model, commandHistory, Messages.MESSAGE_INVALID_DATE_RANGE);
+    }
+}
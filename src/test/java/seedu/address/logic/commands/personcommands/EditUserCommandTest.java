@@ -1,5 +1,6 @@
 package seedu.address.logic.commands.personcommands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_NO_USER_LOGGED_IN;
@@ -28,6 +29,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -112,6 +114,18 @@ public class EditUserCommandTest {
         assertCommandSuccess(editUserCommand, model, commandHistory, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_updateScheduleOnly_preEditPersonUnchanged() throws Exception {
+        Schedule originalSchedule = new Schedule(ALICE.getSchedule().valueToString());
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder()
+                .withUpdateSchedule(VALID_SCHEDULE_UPDATE_DAY, VALID_SCHEDULE_UPDATE_TIME).build();
+        new EditUserCommand(descriptor).execute(model, commandHistory);
+
+        // the edited schedule is a new value, so the pre-edit person and undo history keep the old one
+        assertEquals(originalSchedule, ALICE.getSchedule());
+        assertFalse(originalSchedule.equals(model.getCurrentUser().getSchedule()));
+    }
+
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
         EditUserCommand editUserCommand = new EditUserCommand(new EditPersonDescriptor());
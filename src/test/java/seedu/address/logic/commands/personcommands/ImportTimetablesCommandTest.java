@@ -0,0 +1,219 @@
+//@@author adjscent
+package seedu.address.logic.commands.personcommands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.JsonDirectoryTimetableSource;
+import seedu.address.commons.util.NusModsTimetableSource;
+import seedu.address.commons.util.TimeTableUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code ImportTimetablesCommand}.
+ */
+public class ImportTimetablesCommandTest {
+
+    private static final Path SEED_FOLDER = Paths.get("src", "test", "data", "ModuleCacheTest", "seed",
+            "2018-2019", "1");
+    private static final String ALICE_LINK = "https://nusmods.com/timetable/sem-1/share?CS2103=LEC:1,TUT:01";
+    private static final String BENSON_LINK = "https://nusmods.com/timetable/sem-1/share?CS2103=LEC:1,TUT:02"
+            + "&CS2105=LEC:1,TUT:09";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager(getAddressBookWithEvent(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getAddressBookWithEvent(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() throws IOException {
+        // this semester 1 of the seed modules, read without network access
+        int year = LocalDate.now().getYear();
+        Path modules = testFolder.newFolder("modules").toPath();
+        Path semester = modules.resolve(year + "-" + (year + 1)).resolve("1");
+        Files.createDirectories(semester);
+        Files.copy(SEED_FOLDER.resolve("CS2103.json"), semester.resolve("CS2103.json"));
+        Files.copy(SEED_FOLDER.resolve("CS2105.json"), semester.resolve("CS2105.json"));
+        TimeTableUtil.setTimetableSource(new JsonDirectoryTimetableSource(modules));
+
+        model.setCurrentUser(findPerson(model, "Alice Pauline"));
+    }
+
+    @After
+    public void tearDown() {
+        TimeTableUtil.setTimetableSource(new NusModsTimetableSource());
+    }
+
+    /**
+     * Returns the typical address book with an event organised by Alice that Benson and Carl have joined
+     */
+    private static AddressBook getAddressBookWithEvent() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Person> persons = addressBook.getPersonList();
+        Event event = new EventBuilder().withOrganiser(persons.get(0)).build();
+        event.addParticipant(persons.get(1));
+        event.addParticipant(persons.get(2));
+        addressBook.addEvent(event);
+        return addressBook;
+    }
+
+    private static Person findPerson(Model model, String name) {
+        return model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.getName().equals(new Name(name))).findFirst().get();
+    }
+
+    private Path writeLinks(String... lines) throws IOException {
+        Path file = testFolder.getRoot().toPath().resolve("timetables.csv");
+        Files.write(file, String.join("\n", lines).getBytes("UTF-8"));
+        return file;
+    }
+
+    /**
+     * Replaces the schedules of the named persons in the expected model as a single change
+     */
+    private void expectImported(String[] names, String[] links) throws ParseException {
+        List<Person> targets = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            Person target = findPerson(expectedModel, names[i]);
+            Schedule schedule = TimeTableUtil.parseLongUrl(links[i]).convertToSchedule();
+            targets.add(target);
+            editedPersons.add(new PersonBuilder(target).withSchedule(schedule.valueToString()).build());
+        }
+        expectedModel.updatePersons(targets, editedPersons);
+        expectedModel.commitAddressBook();
+    }
+
+    @Test
+    public void execute_validLinks_schedulesReplaced() throws Exception {
+        Path file = writeLinks("# name,link", "Alice Pauline," + ALICE_LINK, "", "Benson Meier," + BENSON_LINK);
+        expectImported(new String[] {"Alice Pauline", "Benson Meier"}, new String[] {ALICE_LINK, BENSON_LINK});
+
+        assertCommandSuccess(new ImportTimetablesCommand(file), model, commandHistory,
+                String.format(ImportTimetablesCommand.MESSAGE_SUCCESS, 2), expectedModel);
+
+        // the logged-in user is kept up to date
+        assertEquals(findPerson(expectedModel, "Alice Pauline").getSchedule(), model.getCurrentUser().getSchedule());
+        assertTrue(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_someLinksFail_othersImported() throws Exception {
+        String missingModuleLink = "https://nusmods.com/timetable/sem-1/share?CS9999=LEC:1";
+        Path file = writeLinks("Alice Pauline," + ALICE_LINK, "Nobody Here," + ALICE_LINK,
+                "Carl Kurz," + missingModuleLink);
+        expectImported(new String[] {"Alice Pauline"}, new String[] {ALICE_LINK});
+
+        String expectedMessage = String.format(ImportTimetablesCommand.MESSAGE_SUCCESS, 1) + "\n"
+                + String.format(ImportTimetablesCommand.MESSAGE_FAILURES, 2,
+                "Nobody Here - " + ImportTimetablesCommand.MESSAGE_UNKNOWN_USER + "\n"
+                + "Carl Kurz - CS9999: " + TimeTableUtil.API_CALL_FAILURE);
+        assertCommandSuccess(new ImportTimetablesCommand(file), model, commandHistory, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_nameSharedByUsers_reportedAmbiguous() throws Exception {
+        Person otherBenson = new PersonBuilder(findPerson(model, "Benson Meier")).withPassword("otherPassword").build();
+        model.addPerson(otherBenson);
+        expectedModel.addPerson(otherBenson);
+        Path file = writeLinks("Alice Pauline," + ALICE_LINK, "Benson Meier," + BENSON_LINK);
+        expectImported(new String[] {"Alice Pauline"}, new String[] {ALICE_LINK});
+
+        String expectedMessage = String.format(ImportTimetablesCommand.MESSAGE_SUCCESS, 1) + "\n"
+                + String.format(ImportTimetablesCommand.MESSAGE_FAILURES, 1,
+                "Benson Meier - " + ImportTimetablesCommand.MESSAGE_AMBIGUOUS_USER);
+        assertCommandSuccess(new ImportTimetablesCommand(file), model, commandHistory, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_userNotParticipant_refused() throws Exception {
+        Path file = writeLinks("Alice Pauline," + ALICE_LINK, "Daniel Meier," + BENSON_LINK);
+        expectImported(new String[] {"Alice Pauline"}, new String[] {ALICE_LINK});
+
+        String expectedMessage = String.format(ImportTimetablesCommand.MESSAGE_SUCCESS, 1) + "\n"
+                + String.format(ImportTimetablesCommand.MESSAGE_FAILURES, 1,
+                "Daniel Meier - " + ImportTimetablesCommand.MESSAGE_NOT_PARTICIPANT);
+        assertCommandSuccess(new ImportTimetablesCommand(file), model, commandHistory, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_notOrganiser_othersRefused() throws Exception {
+        model.setCurrentUser(findPerson(model, "Benson Meier"));
+        Path file = writeLinks("Alice Pauline," + ALICE_LINK, "Carl Kurz," + ALICE_LINK);
+
+        // joining an event does not allow importing the timetables of its organiser or other participants
+        String expectedMessage = String.format(ImportTimetablesCommand.MESSAGE_SUCCESS, 0) + "\n"
+                + String.format(ImportTimetablesCommand.MESSAGE_FAILURES, 2,
+                "Alice Pauline - " + ImportTimetablesCommand.MESSAGE_NOT_PARTICIPANT + "\n"
+                + "Carl Kurz - " + ImportTimetablesCommand.MESSAGE_NOT_PARTICIPANT);
+        assertCommandSuccess(new ImportTimetablesCommand(file), model, commandHistory, expectedMessage,
+                expectedModel);
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_noUserLoggedIn_throwsCommandException() throws IOException {
+        Model loggedOutModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new ImportTimetablesCommand(writeLinks("Alice Pauline," + ALICE_LINK)),
+                loggedOutModel, commandHistory, Messages.MESSAGE_NO_USER_LOGGED_IN);
+    }
+
+    @Test
+    public void execute_invalidLine_throwsCommandException() throws IOException {
+        Path file = writeLinks("Alice Pauline," + ALICE_LINK, "Benson Meier");
+        assertCommandFailure(new ImportTimetablesCommand(file), model, commandHistory,
+                String.format(ImportTimetablesCommand.MESSAGE_INVALID_LINE, 2, "Benson Meier"));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.getRoot().toPath().resolve("missing.csv");
+        assertCommandFailure(new ImportTimetablesCommand(file), model, commandHistory,
+                String.format(ImportTimetablesCommand.MESSAGE_CANNOT_READ_FILE, file));
+    }
+
+    @Test
+    public void equals() {
+        ImportTimetablesCommand command = new ImportTimetablesCommand(Paths.get("timetables.csv"));
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ImportTimetablesCommand(Paths.get("timetables.csv"))));
+        assertFalse(command.equals(new ImportTimetablesCommand(Paths.get("other.csv"))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+    }
+}
@@ -0,0 +1,96 @@
+//@@author adjscent
+package seedu.address.logic.commands.personcommands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Slot;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code WhoIsFreeCommand}.
+ */
+public class WhoIsFreeCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    /**
+     * Makes the person busy on tuesday at 1430 in both models.
+     */
+    private void makeBusy(Person person) throws ParseException {
+        Schedule schedule = new Schedule();
+        schedule = schedule.setTimeDay(new Slot("tuesday", "1430"), true);
+        Person busyPerson = new PersonBuilder(person).withSchedule(schedule.valueToString()).build();
+        model.updatePerson(person, busyPerson);
+        expectedModel.updatePerson(person, busyPerson);
+    }
+
+    @Test
+    public void execute_slotRange_listsFreePersons() throws ParseException {
+        makeBusy(CARL);
+        int personCount = model.getFilteredPersonList().size();
+
+        WhoIsFreeCommand command = new WhoIsFreeCommand(new Slot("tuesday", "1400"), 3, false);
+        expectedModel.updateFilteredPersonList(person -> !person.isSamePerson(CARL));
+        assertCommandSuccess(command, model, commandHistory,
+            String.format(WhoIsFreeCommand.MESSAGE_SUCCESS, personCount - 1, "tuesday,1400-1530"), expectedModel);
+
+        // a range before the busy slot lists everyone
+        command = new WhoIsFreeCommand(new Slot("tuesday", "1400"), 1, false);
+        expectedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertCommandSuccess(command, model, commandHistory,
+            String.format(WhoIsFreeCommand.MESSAGE_SUCCESS, personCount, "tuesday,1400-1430"), expectedModel);
+    }
+
+    @Test
+    public void execute_friendsOnly_listsFreeFriends() throws ParseException {
+        Person user = new PersonBuilder().withName("User").withFriends("Benson Meier|password",
+            "Carl Kurz|" + PersonBuilder.DEFAULT_PASSWORD).build();
+        model.setCurrentUser(user);
+        expectedModel.setCurrentUser(user);
+        makeBusy(CARL);
+
+        WhoIsFreeCommand command = new WhoIsFreeCommand(new Slot("tuesday", "1430"), 1, true);
+        expectedModel.updateFilteredPersonList(person -> person.isSamePerson(BENSON));
+        assertCommandSuccess(command, model, commandHistory,
+            String.format(WhoIsFreeCommand.MESSAGE_SUCCESS, 1, "tuesday,1430-1500"), expectedModel);
+    }
+
+    @Test
+    public void execute_friendsOnlyWithoutUser_throwsCommandException() throws ParseException {
+        WhoIsFreeCommand command = new WhoIsFreeCommand(new Slot("tuesday", "1430"), 1, true);
+        assertCommandFailure(command, model, commandHistory, Messages.MESSAGE_NO_USER_LOGGED_IN);
+    }
+
+    @Test
+    public void equals() throws ParseException {
+        WhoIsFreeCommand command = new WhoIsFreeCommand(new Slot("tuesday", "1430"), 2, false);
+
+        // same values -> returns true
+        assertTrue(command.equals(new WhoIsFreeCommand(Slot.of(1, 29), 2, false)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // different range or flag -> returns false
+        assertFalse(command.equals(new WhoIsFreeCommand(Slot.of(1, 29), 1, false)));
+        assertFalse(command.equals(new WhoIsFreeCommand(Slot.of(1, 29), 2, true)));
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.HeatScheduleCommand;
+
+
+public class HeatScheduleCommandParserTest {
+
+    private HeatScheduleCommandParser parser = new HeatScheduleCommandParser();
+
+    @Test
+    public void parseValid() {
+        Index[] index = {INDEX_FIRST, INDEX_SECOND};
+        assertParseSuccess(parser, "1 2", new HeatScheduleCommand(index, null));
+        assertParseSuccess(parser, "1 2 mf/ 1", new HeatScheduleCommand(index, 1));
+
+        // no index uses the selected event
+        assertParseSuccess(parser, "  ", new HeatScheduleCommand(new Index[0], null));
+    }
+
+    @Test
+    public void parseInvalid() {
+        assertParseFailure(parser, "1 a",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, HeatScheduleCommand.MESSAGE_USAGE));
+
+        assertParseFailure(parser, "0 1",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, HeatScheduleCommand.MESSAGE_USAGE));
+
+        assertParseFailure(parser, "1 2 mf/ 0",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, HeatScheduleCommand.MESSAGE_USAGE));
+
+        assertParseFailure(parser, "1 2 mf/ x",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, HeatScheduleCommand.MESSAGE_USAGE));
+    }
+}
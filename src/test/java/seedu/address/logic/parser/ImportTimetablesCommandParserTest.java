@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.personcommands.ImportTimetablesCommand;
+
+public class ImportTimetablesCommandParserTest {
+
+    private ImportTimetablesCommandParser parser = new ImportTimetablesCommandParser();
+
+    @Test
+    public void parseValid() {
+        assertParseSuccess(parser, " data/timetables.csv ",
+            new ImportTimetablesCommand(Paths.get("data", "timetables.csv")));
+    }
+
+    @Test
+    public void parseInvalid() {
+        assertParseFailure(parser, "   ",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportTimetablesCommand.MESSAGE_USAGE));
+    }
+}
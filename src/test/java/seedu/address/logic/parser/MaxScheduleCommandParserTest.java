@@ -32,9 +32,36 @@ public class MaxScheduleCommandParserTest {
             expectedMaxScheduleCommand);
     }
 
+    @Test
+    public void parseValidMinDuration() {
+        Index[] index = {INDEX_FIRST, INDEX_SECOND};
+        MaxScheduleCommand expectedMaxScheduleCommand =
+            new MaxScheduleCommand(index, "0800-1200", 90);
+
+        assertParseSuccess(parser, "1 2 sl/0800-1200 md/90",
+            expectedMaxScheduleCommand);
+    }
+
     @Test
     public void parseInvalid() {
 
+        // non positive or non numeric minimum duration
+        assertParseFailure(parser, "1 2 md/0",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, MaxScheduleCommand.MESSAGE_USAGE));
+
+        assertParseFailure(parser, "1 2 md/1h",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, MaxScheduleCommand.MESSAGE_USAGE));
+
+        // longer than a day, or too large to hold
+        assertParseFailure(parser, "1 2 md/1441",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, MaxScheduleCommand.MESSAGE_USAGE));
+
+        assertParseFailure(parser, "1 2 md/" + Integer.MAX_VALUE,
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, MaxScheduleCommand.MESSAGE_USAGE));
+
+        assertParseFailure(parser, "1 2 md/99999999999",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, MaxScheduleCommand.MESSAGE_USAGE));
+
         // does not have -
         assertParseFailure(parser, "1 2 sl/00  ",
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, MaxScheduleCommand.MESSAGE_USAGE));
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.personcommands.WhoIsFreeCommand;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Slot;
+
+
+public class WhoIsFreeCommandParserTest {
+
+    private WhoIsFreeCommandParser parser = new WhoIsFreeCommandParser();
+
+    @Test
+    public void parseValid() {
+        // tuesday 1400 is time slot 28
+        assertParseSuccess(parser, "tuesday 1400", new WhoIsFreeCommand(Slot.of(1, 28), 1, false));
+        // the end time is included
+        assertParseSuccess(parser, " tuesday 1400 1530 ", new WhoIsFreeCommand(Slot.of(1, 28), 4, false));
+        assertParseSuccess(parser, "tuesday 1400 1400", new WhoIsFreeCommand(Slot.of(1, 28), 1, false));
+        assertParseSuccess(parser, "tuesday 2300 2330", new WhoIsFreeCommand(Slot.of(1, 46), 2, false));
+        assertParseSuccess(parser, "tuesday 1400 friends/", new WhoIsFreeCommand(Slot.of(1, 28), 1, true));
+    }
+
+    @Test
+    public void parseInvalid() {
+        assertParseFailure(parser, "tuesday",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, WhoIsFreeCommand.MESSAGE_USAGE));
+
+        assertParseFailure(parser, "tuesday 1400 1530 1600",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, WhoIsFreeCommand.MESSAGE_USAGE));
+
+        // end time before the start time
+        assertParseFailure(parser, "tuesday 1400 1330",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, WhoIsFreeCommand.MESSAGE_USAGE));
+
+        assertParseFailure(parser, "someday 1400", Schedule.INVALID_MESSAGE_SCHEDULE);
+    }
+}
@@ -0,0 +1,55 @@
+//@@author adjscent
+package seedu.address.logic.parser.eventparser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.eventcommands.FindMeetingTimeCommand;
+import seedu.address.logic.parser.eventparsers.FindMeetingTimeCommandParser;
+import seedu.address.model.person.Name;
+
+public class FindMeetingTimeCommandParserTest {
+    private static final LocalDate START = LocalDate.of(2018, 10, 1);
+    private static final LocalDate END = LocalDate.of(2018, 10, 7);
+
+    private FindMeetingTimeCommandParser parser = new FindMeetingTimeCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFindMeetingTimeCommand() {
+        assertParseSuccess(parser, " d1/01-10-2018 d2/07-10-2018 md/60",
+                new FindMeetingTimeCommand(START, END, 60, FindMeetingTimeCommand.DEFAULT_TOP_K,
+                        Collections.emptySet(), false));
+        assertParseSuccess(parser, " d1/01-10-2018 d2/07-10-2018 md/90 k/3 pn/Alice pn/Bob poll/",
+                new FindMeetingTimeCommand(START, END, 90, 3,
+                        new HashSet<>(Arrays.asList(new Name("Alice"), new Name("Bob"))), true));
+
+        // the largest duration and number of times
+        assertParseSuccess(parser, " d1/01-10-2018 d2/07-10-2018 md/1440 k/50",
+                new FindMeetingTimeCommand(START, END, FindMeetingTimeCommand.MAX_DURATION,
+                        FindMeetingTimeCommand.MAX_TOP_K, Collections.emptySet(), false));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String usage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindMeetingTimeCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " d1/01-10-2018 d2/07-10-2018", usage);
+        assertParseFailure(parser, " d1/01-10-2018 d2/07-10-2018 md/0", usage);
+        assertParseFailure(parser, " d1/01-10-2018 d2/07-10-2018 md/60 k/many", usage);
+
+        // duration longer than a day, or too large to round up to slots
+        assertParseFailure(parser, " d1/01-10-2018 d2/07-10-2018 md/1441", usage);
+        assertParseFailure(parser, " d1/01-10-2018 d2/07-10-2018 md/" + (Integer.MAX_VALUE - 1), usage);
+
+        // more times than can be listed, or too many to keep
+        assertParseFailure(parser, " d1/01-10-2018 d2/07-10-2018 md/60 k/51", usage);
+        assertParseFailure(parser, " d1/01-10-2018 d2/07-10-2018 md/60 k/2000000000", usage);
+    }
+}
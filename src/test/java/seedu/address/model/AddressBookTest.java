@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -11,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.Rule;
@@ -22,6 +24,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -86,6 +89,73 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    //@@author adjscent
+    @Test
+    public void addPerson_personIds_uniqueAndKeptWhenEdited() {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+        assertNotEquals(Person.NO_ID, amy.getId());
+        assertNotEquals(amy.getId(), bob.getId());
+
+        Person editedAmy = new PersonBuilder(amy).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.updatePerson(amy, editedAmy);
+        assertEquals(amy.getId(), editedAmy.getId());
+
+        // a person holding an id already in use is added as a copy with a new id, leaving the person as it was
+        Person clash = new PersonBuilder().withName("Clash").build();
+        clash.setId(bob.getId());
+        addressBook.addPerson(clash);
+        assertEquals(bob.getId(), clash.getId());
+        assertNotEquals(bob.getId(), addressBook.getPersonList().get(2).getId());
+        assertEquals(clash, addressBook.getPersonList().get(2));
+
+        // ids are kept when the persons are copied into another address book
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(bob.getId(), copy.getPersonList().get(1).getId());
+    }
+
+    @Test
+    public void addPerson_separateAddressBooks_idsGivenIndependently() {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        addressBook.addPerson(amy);
+        AddressBook otherAddressBook = new AddressBook();
+        Person bob = new PersonBuilder().withName("Bob Choo").build();
+        otherAddressBook.addPerson(bob);
+        assertEquals(amy.getId(), bob.getId());
+
+        // a person already in another address book keeps its id there
+        otherAddressBook.addPerson(amy);
+        assertEquals(bob.getId(), amy.getId());
+        assertEquals(amy, otherAddressBook.getPersonList().get(1));
+        assertNotEquals(amy.getId(), otherAddressBook.getPersonList().get(1).getId());
+    }
+
+    @Test
+    public void takeChanges_eventsChanged_returnsChangedEventIds() {
+        addressBook.setPersons(getTypicalAddressBook().getPersonList());
+        Event meeting = new EventBuilder().withName("Meeting").build();
+        Event dinner = new EventBuilder().withName("Dinner").build();
+        addressBook.addEvent(meeting);
+        addressBook.addEvent(dinner);
+        assertEquals(new AddressBookChanges(true, false, new HashSet<>(Arrays.asList(meeting.getId(),
+                dinner.getId()))), addressBook.takeChanges());
+        assertTrue(addressBook.takeChanges().isEmpty());
+
+        // an edited event keeps its id
+        Event editedDinner = new EventBuilder(dinner).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.updateEvent(dinner, editedDinner);
+        addressBook.removeEvent(meeting);
+        assertEquals(dinner.getId(), editedDinner.getId());
+        assertEquals(new AddressBookChanges(false, false, new HashSet<>(Arrays.asList(meeting.getId(),
+                dinner.getId()))), addressBook.takeChanges());
+
+        addressBook.addPerson(new PersonBuilder().withName("Amy Bee").build());
+        assertEquals(new AddressBookChanges(true, false, Collections.emptySet()), addressBook.takeChanges());
+    }
+
+    //@@author
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
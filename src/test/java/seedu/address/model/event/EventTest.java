@@ -1,11 +1,22 @@
 package seedu.address.model.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
+import java.time.LocalDate;
+import java.util.Set;
+
 import org.junit.Test;
 
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.exceptions.UserNotJoinedEventException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Slot;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalEvents;
 import seedu.address.testutil.TypicalIndexes;
 
@@ -21,4 +32,58 @@ public class EventTest {
         Event eventCopy = event.getCopy();
         assertEquals(event, eventCopy);
     }
+
+    /**
+     * Returns a person who is busy only at the given monday time.
+     */
+    private Person personBusyAt(String name, String time) throws ParseException {
+        Schedule schedule = new Schedule();
+        schedule = schedule.setTimeDay(new Slot("monday", time), true);
+        return new PersonBuilder().withName(name).withSchedule(schedule.valueToString()).build();
+    }
+
+    private Set<String> getTimePollOptions(Event event) {
+        return event.getPoll(TypicalIndexes.INDEX_FIRST).getPollData().keySet();
+    }
+
+    @Test
+    public void timePoll_participantChanges_updateOptions() throws ParseException {
+        Event event = new EventBuilder().build();
+        Person alice = personBusyAt("Alice", "0900");
+        event.addParticipant(alice);
+        // 2018-10-01 is a monday
+        event.addTimePoll(LocalDate.of(2018, 10, 1), LocalDate.of(2018, 10, 2));
+        event.addVoteToPoll(TypicalIndexes.INDEX_FIRST, alice, "01-10-2018 1200");
+        assertEquals(47, getTimePollOptions(event).size());
+        assertFalse(getTimePollOptions(event).contains("01-10-2018 0900"));
+
+        Person bob = personBusyAt("Bob", "1000");
+        event.addParticipant(bob);
+        assertFalse(getTimePollOptions(event).contains("01-10-2018 1000"));
+
+        Person editedBob = personBusyAt("Bob", "1100");
+        event.updatePerson(bob, editedBob);
+        assertTrue(getTimePollOptions(event).contains("01-10-2018 1000"));
+        assertFalse(getTimePollOptions(event).contains("01-10-2018 1100"));
+
+        event.deletePerson(editedBob);
+        assertTrue(getTimePollOptions(event).contains("01-10-2018 1100"));
+        assertEquals(47, getTimePollOptions(event).size());
+        assertTrue(event.getPoll(TypicalIndexes.INDEX_FIRST).getPollData().get("01-10-2018 1200").contains(alice));
+    }
+
+    @Test
+    public void timePoll_participantsSharingName_countedSeparately() throws ParseException {
+        Event event = new EventBuilder().build();
+        Person bob = personBusyAt("Bob", "0900");
+        Person otherBob = new PersonBuilder(personBusyAt("Bob", "1000")).withPassword("otherPassword").build();
+        event.addParticipant(bob);
+        event.addParticipant(otherBob);
+        event.addTimePoll(LocalDate.of(2018, 10, 1), LocalDate.of(2018, 10, 2));
+        assertEquals(46, getTimePollOptions(event).size());
+
+        event.deletePerson(bob);
+        assertTrue(getTimePollOptions(event).contains("01-10-2018 0900"));
+        assertFalse(getTimePollOptions(event).contains("01-10-2018 1000"));
+    }
 }
@@ -0,0 +1,78 @@
+//@@author adjscent
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Slot;
+import seedu.address.model.person.Time;
+import seedu.address.testutil.PersonBuilder;
+
+public class MeetingTimeSolverTest {
+    // 2018-10-01 is a monday
+    private static final LocalDate MONDAY = LocalDate.of(2018, 10, 1);
+    private static final String BUSY_SCHEDULE = new String(new char[Schedule.TOTAL]).replace('\0', '1');
+
+    /**
+     * Returns a person who is busy except at the given slots.
+     */
+    private Person personFreeAt(String name, Slot... slots) throws ParseException {
+        Schedule schedule = new Schedule(BUSY_SCHEDULE);
+        for (Slot slot : slots) {
+            schedule = schedule.setTimeDay(slot, false);
+        }
+        return new PersonBuilder().withName(name).withSchedule(schedule.valueToString()).build();
+    }
+
+    @Test
+    public void solve_weightedTopK() throws ParseException {
+        Person organiser = personFreeAt("Organiser", new Slot("monday", "0800"), new Slot("monday", "0830"),
+                new Slot("monday", "0900"));
+        Person participant = personFreeAt("Participant", new Slot("monday", "0830"), new Slot("monday", "0900"),
+                new Slot("monday", "0930"), new Slot("tuesday", "1000"), new Slot("tuesday", "1030"));
+        MeetingTimeSolver solver = new MeetingTimeSolver();
+        solver.addParticipant(organiser, MeetingTimeSolver.ORGANISER_WEIGHT);
+        solver.addParticipant(participant, MeetingTimeSolver.PARTICIPANT_WEIGHT);
+
+        List<MeetingTime> best = solver.solve(MONDAY, MONDAY.plusDays(1), 2, 3);
+        int total = MeetingTimeSolver.ORGANISER_WEIGHT + MeetingTimeSolver.PARTICIPANT_WEIGHT;
+        assertEquals(Arrays.asList(
+                new MeetingTime(MONDAY, Time.of("0830"), 4, total),
+                new MeetingTime(MONDAY, Time.of("0800"), 3, total),
+                new MeetingTime(MONDAY, Time.of("0900"), 1, total)), best);
+        assertEquals("01-10-2018 0830", best.get(0).getOption());
+
+        // a longer meeting fits each of them at a different time on monday
+        assertEquals(Arrays.asList(
+                new MeetingTime(MONDAY, Time.of("0800"), 3, total),
+                new MeetingTime(MONDAY, Time.of("0830"), 1, total)),
+                solver.solve(MONDAY, MONDAY.plusDays(1), 3, 3));
+    }
+
+    @Test
+    public void solve_kLargerThanCandidates_everyCandidateReturned() throws ParseException {
+        MeetingTimeSolver solver = new MeetingTimeSolver();
+        solver.addParticipant(personFreeAt("Participant", new Slot("monday", "0800"), new Slot("tuesday", "0800")),
+                MeetingTimeSolver.PARTICIPANT_WEIGHT);
+
+        // the kept candidates are bounded by the start times in the range, not by k
+        assertEquals(Arrays.asList(new MeetingTime(MONDAY, Time.of("0800"), 1, 1)),
+                solver.solve(MONDAY, MONDAY, 1, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void solve_nobodyFree_returnsEmpty() throws ParseException {
+        MeetingTimeSolver solver = new MeetingTimeSolver();
+        solver.addParticipant(personFreeAt("Busy"), MeetingTimeSolver.PARTICIPANT_WEIGHT);
+        assertTrue(solver.solve(MONDAY, MONDAY.plusDays(6), 1, 5).isEmpty());
+    }
+}
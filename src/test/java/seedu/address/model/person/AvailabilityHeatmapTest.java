@@ -0,0 +1,61 @@
+//@@author adjscent
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.PersonBuilder;
+
+class AvailabilityHeatmapTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new AvailabilityHeatmap(null));
+    }
+
+    @Test
+    public void counts() throws ParseException {
+        Slot monday = new Slot("monday", "0800");
+        Slot sunday = new Slot("sunday", "2330");
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Schedule schedule = new Schedule();
+            schedule = schedule.setTimeDay(monday, true);
+            if (i < 2) {
+                schedule = schedule.setTimeDay(sunday, true);
+            }
+            persons.add(new PersonBuilder().withName("Person " + i).withSchedule(schedule.valueToString()).build());
+        }
+
+        AvailabilityHeatmap heatmap = new AvailabilityHeatmap(persons);
+        assertEquals(5, heatmap.getPersonCount());
+        assertEquals(5, heatmap.getBusyCount(monday));
+        assertEquals(2, heatmap.getBusyCount(sunday));
+        assertEquals(3, heatmap.getFreeCount(sunday));
+        assertEquals(5, heatmap.getFreeCount(new Slot("tuesday", "1200")));
+
+        Schedule allFree = heatmap.getScheduleWithMinFree(5);
+        assertTrue(allFree.getTimeDay(sunday));
+        assertTrue(allFree.getTimeDay(monday));
+
+        Schedule mostFree = heatmap.getScheduleWithMinFree(3);
+        assertFalse(mostFree.getTimeDay(sunday));
+        assertTrue(mostFree.getTimeDay(monday));
+        assertEquals(Schedule.TOTAL - 1, mostFree.countFreeSlots());
+    }
+
+    @Test
+    public void prettyPrint() {
+        AvailabilityHeatmap heatmap = new AvailabilityHeatmap(new ArrayList<>());
+        assertTrue(heatmap.prettyPrint().contains("mon"));
+    }
+}
@@ -0,0 +1,42 @@
+//@@author adjscent
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.testutil.PersonBuilder;
+
+public class AvailabilityIndexTest {
+
+    @Test
+    public void getFreePersons_afterUpdates() throws ParseException {
+        Slot monday = new Slot("monday", "0900");
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        AvailabilityIndex index = new AvailabilityIndex(Arrays.asList(alice, benson));
+        assertEquals(Arrays.asList(alice, benson), index.getFreePersons(monday.getIndex(), monday.getIndex() + 2));
+
+        Schedule editedSchedule = alice.getSchedule().setTimeDay(new Slot("monday", "0930"), true);
+        Person editedAlice = new PersonBuilder(alice).withSchedule(editedSchedule.valueToString()).build();
+        index.update(alice, editedAlice);
+        assertEquals(Collections.singletonList(benson), index.getFreePersons(monday.getIndex(),
+            monday.getIndex() + 2));
+        assertEquals(Arrays.asList(editedAlice, benson), index.getFreePersons(monday.getIndex(),
+            monday.getIndex() + 1));
+
+        // a removed ordinal is reused by the next person added
+        index.remove(benson);
+        Person carl = new PersonBuilder().withName("Carl").build();
+        index.add(carl);
+        assertEquals(2, index.size());
+        assertEquals(Arrays.asList(editedAlice, carl), index.getFreePersons(monday.getIndex(),
+            monday.getIndex() + 1));
+    }
+}
@@ -26,19 +26,19 @@ class DayTest {
         assertTrue(day.getNumberRepresentation() == 0);
 
         String dayString2 = "saturday";
-        day.setValue(dayString2);
+        day = new Day(dayString2);
 
         assertTrue(day.getStringRepresentation().equals(dayString2));
         assertTrue(day.getNumberRepresentation() == 5);
 
         String dayString3 = "sunday";
-        day.setValue(dayString3);
+        day = new Day(dayString3);
 
         assertTrue(day.getStringRepresentation().equals(dayString3));
         assertTrue(day.getNumberRepresentation() == 6);
 
         String dayString4 = "tuesday";
-        day.setValue(dayString4);
+        day = new Day(dayString4);
 
         assertTrue(day.getStringRepresentation().equals(dayString4));
         assertTrue(day.getNumberRepresentation() == 1);
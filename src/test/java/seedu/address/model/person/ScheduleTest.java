@@ -3,9 +3,12 @@ package seedu.address.model.person;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE;
 
+import java.util.ArrayList;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -46,25 +49,25 @@ class ScheduleTest {
         Slot slot1 = new Slot("monday", "0100");
         assertFalse(s.getTimeDay(slot1));
 
-        slot1.setDay("tuesday");
+        slot1 = new Slot("tuesday", "0100");
         assertFalse(s.getTimeDay(slot1));
 
-        slot1.setDay("wednesday");
+        slot1 = new Slot("wednesday", "0100");
         assertFalse(s.getTimeDay(slot1));
 
-        slot1.setDay("thursday");
+        slot1 = new Slot("thursday", "0100");
         assertFalse(s.getTimeDay(slot1));
 
-        slot1.setDay("friday");
+        slot1 = new Slot("friday", "0100");
         assertFalse(s.getTimeDay(slot1));
 
-        slot1.setDay("saturday");
+        slot1 = new Slot("saturday", "0100");
         assertFalse(s.getTimeDay(slot1));
 
-        slot1.setDay("sunday");
+        slot1 = new Slot("sunday", "0100");
         assertFalse(s.getTimeDay(slot1));
 
-        slot1.setTime("0130");
+        slot1 = new Slot("sunday", "0130");
         assertFalse(s.getTimeDay(slot1));
 
     }
@@ -74,8 +77,8 @@ class ScheduleTest {
         Schedule s = new Schedule();
         Slot slot1 = new Slot("monday", "0100");
         Slot slot2 = new Slot("monday", "0130");
-        s.setTimeDay(slot1, true);
-        s.setTimeDay(slot2, true);
+        s = s.setTimeDay(slot1, true);
+        s = s.setTimeDay(slot2, true);
     }
 
     @Test
@@ -100,7 +103,7 @@ class ScheduleTest {
     public void xor() {
         Schedule s1 = new Schedule();
         Schedule s2 = new Schedule();
-        s1.xor(s2);
+        s1 = s1.xor(s2);
         assertTrue(s1.valueToString().equals(emptyScheduleString));
     }
 
@@ -110,8 +113,8 @@ class ScheduleTest {
         Slot slot1 = new Slot("monday", "1100");
         Slot slot2 = new Slot("monday", "0130");
 
-        s1.setTimeDay(slot1, true);
-        s1.setTimeDay(slot2, true);
+        s1 = s1.setTimeDay(slot1, true);
+        s1 = s1.setTimeDay(slot2, true);
 
         String ft = s1.freeTimeToString();
         assertTrue(ft.contains("monday"));
@@ -123,6 +126,135 @@ class ScheduleTest {
         //assertTrue(slots.size() == 24 * 2 - 2);
     }
 
+    @Test
+    public void prettyPrint_cachedByContent() throws ParseException {
+        Schedule s1 = new Schedule();
+        s1 = s1.setTimeDay(new Slot("tuesday", "0930"), true);
+        String table = s1.prettyPrint();
+        assertTrue(table.startsWith("<tr><th></th><th>mon</th>"));
+        assertTrue(table.contains("<tr><td>0930</td><td> </td><td class='table-danger'> </td>"));
+        assertSame(table, new Schedule(s1.valueToString()).prettyPrint());
+
+        s1 = s1.setTimeDay(new Slot("tuesday", "0930"), false);
+        assertEquals(new Schedule().prettyPrint(), s1.prettyPrint());
+        assertFalse(s1.prettyPrint().contains("table-danger"));
+
+        Schedule.evictRendering(s1);
+        assertEquals(new Schedule().prettyPrint(), s1.prettyPrint());
+    }
+
+    @Test
+    public void wordOperations() throws ParseException {
+        Schedule s1 = new Schedule();
+        Schedule s2 = new Schedule();
+        s1 = s1.setTimeDay(new Slot("monday", "0100"), true);
+        s1 = s1.setTimeDay(new Slot("sunday", "2330"), true);
+        s2 = s2.setTimeDay(new Slot("sunday", "2330"), true);
+
+        Schedule union = s1.union(s2);
+        assertEquals(2, union.countOccupiedSlots());
+
+        Schedule intersection = s1.intersect(s2);
+        assertEquals(1, intersection.countOccupiedSlots());
+        assertTrue(intersection.getTimeDay(new Slot("sunday", "2330")));
+
+        Schedule difference = s1.andNot(s2);
+        assertEquals(1, difference.countOccupiedSlots());
+        assertTrue(difference.getTimeDay(new Slot("monday", "0100")));
+        assertEquals(335, difference.countFreeSlots());
+    }
+
+    @Test
+    public void nextFreeSlot() throws ParseException {
+        Schedule s1 = new Schedule();
+        assertEquals(0, s1.nextFreeSlot(0));
+        assertEquals(-1, s1.nextOccupiedSlot(0));
+
+        s1 = s1.setTimeDay(new Slot("monday", "0000"), true);
+        s1 = s1.setTimeDay(new Slot("sunday", "2330"), true);
+        assertEquals(1, s1.nextFreeSlot(0));
+        assertEquals(Schedule.TOTAL - 1, s1.nextOccupiedSlot(1));
+        assertEquals(-1, s1.nextFreeSlot(Schedule.TOTAL - 1));
+        assertEquals(Schedule.TOTAL - 2, s1.getFreeSlots().size());
+    }
+
+    @Test
+    public void operations_leaveOperandsUnchanged() throws ParseException {
+        Slot slot = new Slot("friday", "1200");
+        Schedule s1 = new Schedule();
+        Schedule s2 = s1.setTimeDay(slot, true);
+        assertFalse(s1.equals(s2));
+        assertEquals(emptyScheduleString, s1.valueToString());
+
+        s1.xor(s2);
+        assertEquals(emptyScheduleString, s1.valueToString());
+
+        // unchanged results share an operand instead of allocating
+        assertSame(s2, s2.setTimeDay(slot, true));
+        assertSame(s2, s1.union(s2));
+        assertSame(s1, s1.intersect(s2));
+    }
+
+    @Test
+    public void maxSchedule_largeList_matchesSequential() {
+        ArrayList<Schedule> schedules = new ArrayList<>();
+        Schedule expected = new Schedule();
+        for (int i = 0; i < 1000; i++) {
+            Schedule schedule = new Schedule();
+            schedule = schedule.setOccupied((i * 7) % Schedule.TOTAL, true);
+            schedules.add(schedule);
+            expected = expected.union(schedule);
+        }
+        assertEquals(expected, Schedule.maxSchedule(schedules));
+        assertEquals(Schedule.maxSchedule(schedules.get(0), schedules.get(1)),
+            Schedule.maxSchedule(schedules.subList(0, 2)));
+    }
+
+    @Test
+    public void hexString_roundTrip() throws ParseException {
+        Schedule s1 = new Schedule();
+        assertEquals(Schedule.HEX_LENGTH, s1.valueToHexString().length());
+        assertTrue(s1.valueToHexString().matches("0+"));
+
+        s1 = s1.setTimeDay(new Slot("monday", "0000"), true);
+        s1 = s1.setTimeDay(new Slot("tuesday", "0830"), true);
+        s1 = s1.setTimeDay(new Slot("sunday", "2330"), true);
+        String hex = s1.valueToHexString();
+        assertEquals('1', hex.charAt(0));
+        assertEquals('8', hex.charAt(Schedule.HEX_LENGTH - 1));
+        assertTrue(Schedule.isValidHexSchedule(hex));
+        assertEquals(s1, Schedule.fromHexString(hex));
+        assertEquals(s1, Schedule.fromHexString(hex.toUpperCase()));
+        assertEquals(s1, new Schedule(s1.valueToString()));
+
+        assertFalse(Schedule.isValidHexSchedule(hex.substring(1)));
+        assertFalse(Schedule.isValidHexSchedule(hex.replace('1', 'x')));
+        assertFalse(Schedule.isValidHexSchedule(s1.valueToString()));
+    }
+
+    @Test
+    public void findFreeBlocks() throws ParseException {
+        Schedule s1 = new Schedule();
+        assertEquals(Schedule.DAY, s1.findFreeBlocks(1).size());
+        assertEquals(new FreeBlock(0, 0, Schedule.HOUR), s1.findFreeBlocks(Schedule.HOUR).get(0));
+
+        // tuesday straddles the first two words
+        s1 = s1.setTimeDay(new Slot("tuesday", "0900"), true);
+        s1 = s1.setTimeDay(new Slot("tuesday", "1200"), true);
+        int tuesday = 1 << 1;
+        assertEquals(3, s1.findFreeBlocks(1, tuesday, 0, Schedule.HOUR).size());
+        assertEquals(new FreeBlock(1, 19, 24), s1.findFreeBlocks(1, tuesday, 0, Schedule.HOUR).get(1));
+
+        // minimum duration drops the short block
+        assertEquals(2, s1.findFreeBlocks(6, tuesday, 0, Schedule.HOUR).size());
+
+        // window clips blocks to 0800-1100
+        assertEquals(2, s1.findFreeBlocks(1, tuesday, 16, 22).size());
+        assertEquals(new FreeBlock(1, 16, 18), s1.findFreeBlocks(1, tuesday, 16, 22).get(0));
+        assertEquals("tuesday,0930-1100", s1.findFreeBlocks(1, tuesday, 16, 22).get(1).toString());
+        assertEquals(0, s1.findFreeBlocks(1, tuesday, 18, 19).size());
+    }
+
     @Test
     void valid() {
         Schedule s1 = new Schedule();
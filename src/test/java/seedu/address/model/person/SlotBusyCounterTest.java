@@ -0,0 +1,42 @@
+//@@author adjscent
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class SlotBusyCounterTest {
+
+    @Test
+    public void addRemoveReplace_matchesRecount() throws ParseException {
+        Slot monday = new Slot("monday", "0900");
+        Slot tuesday = new Slot("tuesday", "0900");
+        Schedule s1 = new Schedule();
+        s1 = s1.setTimeDay(monday, true);
+        Schedule s2 = new Schedule();
+        s2 = s2.setTimeDay(monday, true);
+        s2 = s2.setTimeDay(tuesday, true);
+
+        SlotBusyCounter counter = new SlotBusyCounter();
+        counter.add(s1);
+        counter.add(s2);
+        assertEquals(2, counter.getScheduleCount());
+        assertEquals(2, counter.getBusyCount(monday));
+        assertEquals(1, counter.getBusyCount(tuesday));
+        assertEquals(Schedule.maxSchedule(s1, s2), counter.getBusySchedule());
+
+        Schedule edited = new Schedule();
+        edited = edited.setTimeDay(tuesday, true);
+        counter.replace(s1, edited);
+        assertEquals(1, counter.getBusyCount(monday));
+        assertEquals(2, counter.getBusyCount(tuesday));
+
+        SlotBusyCounter copy = counter.copy();
+        counter.remove(s2);
+        assertEquals(1, counter.getScheduleCount());
+        assertEquals(edited, counter.getBusySchedule());
+        assertEquals(Schedule.maxSchedule(edited, s2), copy.getBusySchedule());
+    }
+}
@@ -1,11 +1,14 @@
 //@@author adjscent
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.testutil.Assert;
 
 class SlotTest {
 
@@ -15,5 +18,17 @@ class SlotTest {
         assertTrue(slot.getDay().getStringRepresentation().equals("tuesday"));
         assertTrue(slot.getTime().getStringRepresentation().equals("0800"));
     }
-}
 
+    @Test
+    void sharedInstances() throws ParseException {
+        Slot slot = Slot.of(1, 16);
+        assertSame(slot, Slot.of(Schedule.toIndex(1, 16)));
+        assertEquals(Schedule.toIndex(1, 16), slot.getIndex());
+        assertEquals(Schedule.toIndex(1, 16), new Slot("Tuesday", "0800").getIndex());
+        assertSame(Day.of("TUESDAY"), slot.getDay());
+        assertSame(Time.of("0800"), slot.getTime());
+        assertEquals("0815", Time.of("0815").getStringRepresentation());
+        Assert.assertThrows(ParseException.class, () -> Day.of("someday"));
+        Assert.assertThrows(ParseException.class, () -> Time.of("2400"));
+    }
+}
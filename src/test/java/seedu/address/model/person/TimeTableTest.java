@@ -1,6 +1,10 @@
 //@@author adjscent
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
 import java.util.ArrayList;
 
 import org.junit.jupiter.api.Test;
@@ -27,4 +31,24 @@ class TimeTableTest {
         t.setLessonList(lessons);
     }
 
+    @Test
+    void convertToSchedule_sharedLessons_masksReused() throws ParseException {
+        Lesson lecture = new Lesson("CS2103", "1", "Lecture", "Every Week", "Friday", "1600", "1800");
+        Lesson sameLecture = new Lesson("CS2103", "1", "Lecture", "Every Week", "Friday", "1600", "1800");
+        Lesson tutorial = new Lesson("CS2103", "01", "Tutorial", "Every Week", "Wednesday", "1000", "1100");
+        assertEquals(lecture, sameLecture);
+        assertEquals(lecture.hashCode(), sameLecture.hashCode());
+        assertFalse(lecture.equals(tutorial));
+        assertSame(TimeTable.getLessonMask(lecture), TimeTable.getLessonMask(sameLecture));
+
+        ArrayList<Lesson> lessons = new ArrayList<>();
+        lessons.add(sameLecture);
+        lessons.add(tutorial);
+        Schedule expected = new Schedule()
+            .setTimeDay(new Slot("friday", "1600"), true).setTimeDay(new Slot("friday", "1630"), true)
+            .setTimeDay(new Slot("friday", "1700"), true).setTimeDay(new Slot("friday", "1730"), true)
+            .setTimeDay(new Slot("wednesday", "1000"), true).setTimeDay(new Slot("wednesday", "1030"), true);
+        assertEquals(expected, new TimeTable(lessons).convertToSchedule());
+        assertEquals(new Schedule(), new TimeTable(new ArrayList<>()).convertToSchedule());
+    }
 }
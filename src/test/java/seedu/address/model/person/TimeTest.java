@@ -32,7 +32,7 @@ class TimeTest {
 
 
         String time2 = "2330";
-        time.setValue(time2);
+        time = new Time(time2);
 
         assertTrue(time.getStringRepresentation().equals(time2));
         assertTrue(time.getNumberRepresentation() == 47);
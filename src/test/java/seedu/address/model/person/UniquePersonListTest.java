@@ -139,6 +139,24 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    //@@author adjscent
+    @Test
+    public void remove_earlierPerson_laterPersonsStillFound() {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, amy, BOB));
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(amy));
+
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.remove(amy);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedBob);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    //@@author
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,162 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryFileStorageTest {
+
+    private static final Path STORAGE_DATA_FOLDER = Paths.get("src", "test", "data", "XmlAddressBookStorageTest");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private static AddressBook getAddressBookWithEvents() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder(HOON).withAddress("Block 1 & 2 <Lobby>").build());
+        Event meeting = new EventBuilder().withName("Meeting").withOrganiser(ALICE).withPoll().build();
+        meeting.addParticipant(BENSON);
+        meeting.addOptionToPoll(Index.fromZeroBased(0), "Monday");
+        meeting.addOptionToPoll(Index.fromZeroBased(0), "Tuesday");
+        meeting.addVoteToPoll(Index.fromZeroBased(0), BENSON, "Monday");
+        addressBook.addEvent(meeting);
+        addressBook.addEvent(new EventBuilder().withName("Dinner").withAddress("Arts Canteen").build());
+        return addressBook;
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    private Path createFile(String fileName) throws Exception {
+        return Files.createFile(getTempFilePath(fileName));
+    }
+
+    @Test
+    public void loadDataFromSaveFile_savedFile_sameAsXml() throws Exception {
+        AddressBook original = getAddressBookWithEvents();
+        Path xmlFile = getTempFilePath("addressbook.xml");
+        Path binaryFile = createFile("addressbook.bin");
+        new XmlAddressBookStorage(xmlFile).saveAddressBook(original);
+        BinaryFileStorage.saveDataToFile(binaryFile, original);
+
+        AddressBook xmlRead = XmlStreamFileStorage.loadDataFromSaveFile(xmlFile);
+        AddressBook binaryRead = BinaryFileStorage.loadDataFromSaveFile(binaryFile);
+        assertEquals(xmlRead, binaryRead);
+        assertEquals(xmlRead.getEventList(), binaryRead.getEventList());
+        assertEquals(new XmlSerializableAddressBook(xmlRead), new XmlSerializableAddressBook(binaryRead));
+    }
+
+    @Test
+    public void loadDataFromSaveFile_emptyAddressBook_success() throws Exception {
+        Path binaryFile = createFile("empty.bin");
+        BinaryFileStorage.saveDataToFile(binaryFile, new AddressBook());
+        assertEquals(new AddressBook(), BinaryFileStorage.loadDataFromSaveFile(binaryFile));
+    }
+
+    @Test
+    public void loadDataFromSaveFile_invalidFiles_throwsException() throws Exception {
+        Path duplicateFile = createFile("duplicate.bin");
+        BinaryFileStorage.saveDataToFile(duplicateFile, new AddressBookStub(ALICE, BENSON, ALICE));
+        assertThrows(IllegalValueException.class, XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                BinaryFileStorage.loadDataFromSaveFile(duplicateFile));
+
+        assertThrows(DataConversionException.class, () -> BinaryFileStorage.loadDataFromSaveFile(
+                STORAGE_DATA_FOLDER.resolve("NotXmlFormatAddressBook.xml")));
+
+        Path truncatedFile = createFile("truncated.bin");
+        BinaryFileStorage.saveDataToFile(truncatedFile, getAddressBookWithEvents());
+        byte[] full = Files.readAllBytes(truncatedFile);
+        byte[] truncated = new byte[full.length / 2];
+        System.arraycopy(full, 0, truncated, 0, truncated.length);
+        Files.write(truncatedFile, truncated);
+        assertThrows(DataConversionException.class, () -> BinaryFileStorage.loadDataFromSaveFile(truncatedFile));
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameAddressBook() throws Exception {
+        AddressBook original = getAddressBookWithEvents();
+        Path xmlFile = getTempFilePath("original.xml");
+        Path binaryFile = getTempFilePath("data/converted.bin");
+        Path convertedXmlFile = getTempFilePath("data/converted.xml");
+        new XmlAddressBookStorage(xmlFile).saveAddressBook(original);
+
+        BinaryFileStorage.convertXmlToBinary(xmlFile, binaryFile);
+        BinaryFileStorage.convertBinaryToXml(binaryFile, convertedXmlFile);
+        assertEquals(XmlStreamFileStorage.loadSerializableDataFromSaveFile(xmlFile),
+                XmlStreamFileStorage.loadSerializableDataFromSaveFile(convertedXmlFile));
+    }
+
+    @Test
+    public void convertToPrimaryFormat_newerFileConverted() throws Exception {
+        Path xmlFile = getTempFilePath("addressbook.xml");
+        Path binaryFile = BinaryAddressBookStorage.getBinaryFilePath(xmlFile);
+        assertEquals(getTempFilePath("addressbook.bin"), binaryFile);
+
+        // nothing to convert
+        assertFalse(BinaryAddressBookStorage.convertToPrimaryFormat(xmlFile, true));
+
+        // only the xml file exists
+        new XmlAddressBookStorage(xmlFile).saveAddressBook(getTypicalAddressBook());
+        assertTrue(BinaryAddressBookStorage.convertToPrimaryFormat(xmlFile, true));
+        assertEquals(getTypicalAddressBook(), new BinaryAddressBookStorage(binaryFile).readAddressBook().get());
+        assertFalse(BinaryAddressBookStorage.convertToPrimaryFormat(xmlFile, true));
+
+        // the binary file was saved later than the xml file
+        AddressBook edited = getAddressBookWithEvents();
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(edited);
+        Files.setLastModifiedTime(xmlFile, FileTime.fromMillis(0));
+        assertTrue(BinaryAddressBookStorage.convertToPrimaryFormat(xmlFile, false));
+        assertEquals(edited, new XmlAddressBookStorage(xmlFile).readAddressBook().get());
+    }
+
+    /**
+     * A ReadOnlyAddressBook whose persons can violate the uniqueness of persons.
+     */
+    private static class AddressBookStub implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons = FXCollections.observableArrayList();
+        private final ObservableList<Event> events = FXCollections.observableArrayList();
+
+        AddressBookStub(Person... persons) {
+            this.persons.setAll(persons);
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Event> getEventList() {
+            return events;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Slot;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+    }
+
+    private JournaledAddressBookStorage createStorage() {
+        return new JournaledAddressBookStorage(filePath, JournaledAddressBookStorage.DEFAULT_CHECKPOINT_BYTES,
+                JournaledAddressBookStorage.DEFAULT_CHECKPOINT_MILLIS);
+    }
+
+    private AddressBook readBack() throws Exception {
+        return new AddressBook(createStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.updatePerson(HOON, new PersonBuilder(HOON).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+
+        // the snapshot is untouched and the journal is replayed on top of it
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(Files.size(storage.getJournalFilePath()) > 0);
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_scheduleOnlyChanged_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // persons are equal by name and password, so only the schedule tells the edited person apart
+        Person alice = original.getPersonList().get(0);
+        Schedule schedule = new Schedule().setTimeDay(new Slot("monday", "0800"), true);
+        original.updatePerson(alice, new PersonBuilder(alice).withSchedule(schedule.valueToString()).build());
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.size(storage.getJournalFilePath()) > 0);
+        assertEquals(schedule, readBack().getPersonList().get(0).getSchedule());
+
+        storage.flushAddressBook();
+        assertEquals(schedule, readBack().getPersonList().get(0).getSchedule());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingAppended() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        long journalSize = Files.size(storage.getJournalFilePath());
+
+        storage.saveAddressBook(original);
+        assertEquals(journalSize, Files.size(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_tornFinalRecord_earlierRecordsReplayed() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook beforeCrash = new AddressBook(original);
+        long validSize = Files.size(storage.getJournalFilePath());
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        try (FileChannel channel = FileChannel.open(storage.getJournalFilePath(), StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(storage.getJournalFilePath()) - 5);
+        }
+
+        assertEquals(beforeCrash, readBack());
+        // the torn record is cut off, so later records follow the last complete one
+        assertEquals(validSize, Files.size(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_discarded() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        byte[] journal = Files.readAllBytes(storage.getJournalFilePath());
+        journal[journal.length - 3] ^= 1;
+        Files.write(storage.getJournalFilePath(), journal);
+
+        assertEquals(getTypicalAddressBook(), readBack());
+    }
+
+    @Test
+    public void saveAddressBook_afterReplay_continuesJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage reopened = createStorage();
+        AddressBook restored = new AddressBook(reopened.readAddressBook().get());
+        restored.addPerson(IDA);
+        reopened.saveAddressBook(restored);
+
+        assertEquals(restored, readBack());
+    }
+
+    @Test
+    public void flushAddressBook_journalCheckpointed() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        storage.flushAddressBook();
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        // the snapshot alone is a plain address book file
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_overCheckpointSize_snapshotRewritten() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0,
+                JournaledAddressBookStorage.DEFAULT_CHECKPOINT_MILLIS);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_ignored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is replaced without the journal being emptied
+        AddressBook replacement = getTypicalAddressBook();
+        replacement.removePerson(ALICE);
+        new XmlAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, readBack());
+    }
+}
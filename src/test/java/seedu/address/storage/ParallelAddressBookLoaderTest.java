@@ -0,0 +1,81 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelAddressBookLoaderTest {
+
+    private static final int PERSON_COUNT = 3 * ParallelAddressBookLoader.CHUNK_SIZE + 1;
+
+    private static AddressBook getLargeAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        for (int i = 0; i < ParallelAddressBookLoader.CHUNK_SIZE + 1; i++) {
+            Person organiser = addressBook.getPersonList().get(i);
+            Event event = new EventBuilder().withName("Event " + i).withOrganiser(organiser).withPoll().build();
+            event.addOptionToPoll(Index.fromZeroBased(0), "Monday");
+            event.addVoteToPoll(Index.fromZeroBased(0), organiser, "Monday");
+            addressBook.addEvent(event);
+        }
+        return addressBook;
+    }
+
+    private static XmlAdaptedPerson getInvalidPerson() {
+        return new XmlAdaptedPerson(BENSON.getName().value, "+651234", BENSON.getEmail().value,
+                BENSON.getPassword().value, BENSON.getAddress().value, new ArrayList<>(), new ArrayList<>());
+    }
+
+    @Test
+    public void toModelType_largeAddressBook_sameAsSequential() throws Exception {
+        XmlSerializableAddressBook data = new XmlSerializableAddressBook(getLargeAddressBook());
+        AddressBook sequential = data.toModelType();
+        AddressBook parallel = ParallelAddressBookLoader.toModelType(data.getPersons(), data.getEvents());
+        assertEquals(sequential, parallel);
+        assertEquals(sequential.getPersonList(), parallel.getPersonList());
+        assertEquals(sequential.getEventList(), parallel.getEventList());
+    }
+
+    @Test
+    public void toModelType_invalidData_sameErrorAsSequential() {
+        XmlSerializableAddressBook data = new XmlSerializableAddressBook(getLargeAddressBook());
+        List<XmlAdaptedPerson> persons = data.getPersons();
+        List<XmlAdaptedEvent> events = data.getEvents();
+
+        // the duplicate comes first
+        List<XmlAdaptedPerson> duplicateFirst = new ArrayList<>(persons);
+        duplicateFirst.add(persons.get(0));
+        duplicateFirst.add(getInvalidPerson());
+        assertThrows(IllegalValueException.class, XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                ParallelAddressBookLoader.toModelType(duplicateFirst, events));
+
+        // the invalid person comes first, in a later chunk
+        List<XmlAdaptedPerson> invalidFirst = new ArrayList<>(persons);
+        invalidFirst.add(getInvalidPerson());
+        invalidFirst.add(persons.get(0));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_PHONE_CONSTRAINTS, () ->
+                ParallelAddressBookLoader.toModelType(invalidFirst, events));
+
+        List<XmlAdaptedEvent> duplicateEvents = new ArrayList<>(events);
+        duplicateEvents.add(events.get(events.size() - 1));
+        assertThrows(IllegalValueException.class, XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                ParallelAddressBookLoader.toModelType(persons, duplicateEvents));
+    }
+}
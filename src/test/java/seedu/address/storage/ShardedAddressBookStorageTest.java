@@ -0,0 +1,210 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private static AddressBook getAddressBookWithEvents() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Event meeting = new EventBuilder().withName("Meeting").withOrganiser(ALICE).withPoll().build();
+        meeting.addParticipant(BENSON);
+        meeting.addOptionToPoll(Index.fromZeroBased(0), "Monday");
+        meeting.addVoteToPoll(Index.fromZeroBased(0), BENSON, "Monday");
+        addressBook.addEvent(meeting);
+        addressBook.addEvent(new EventBuilder().withName("Dinner").withAddress("Arts Canteen").build());
+        addressBook.addEvent(new EventBuilder().withName("Lunch").withOrganiser(BENSON).build());
+        return addressBook;
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    private static XmlSerializableAddressBook read(ShardedAddressBookStorage storage) throws Exception {
+        return new XmlSerializableAddressBook(storage.readAddressBook().get());
+    }
+
+    private static List<String> readManifest(Path directory) throws Exception {
+        return Files.readAllLines(directory.resolve(ShardedAddressBookStorage.MANIFEST));
+    }
+
+    private static Path getPersonsShard(Path directory) throws Exception {
+        return directory.resolve(readManifest(directory).get(1));
+    }
+
+    /**
+     * Returns the shard the manifest names for {@code event}, if any
+     */
+    private static Optional<Path> getEventShard(Path directory, Event event) throws Exception {
+        String prefix = ShardedAddressBookStorage.EVENTS_DIRECTORY + "/" + event.getId() + ".";
+        return readManifest(directory).stream().filter(shard -> shard.startsWith(prefix)).findFirst()
+                .map(directory::resolve);
+    }
+
+    private static void makeShardsOld(Path directory) throws Exception {
+        try (Stream<Path> shards = Files.walk(directory)) {
+            for (Path shard : (Iterable<Path>) shards::iterator) {
+                Files.setLastModifiedTime(shard, OLD_TIME);
+            }
+        }
+    }
+
+    @Test
+    public void readAddressBook_missingShards_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(getTempFilePath("missing.shards")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_allShards_readBack() throws Exception {
+        AddressBook original = getAddressBookWithEvents();
+        Path directory = getTempFilePath("addressbook.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(getPersonsShard(directory)));
+        for (Event event : original.getEventList()) {
+            assertTrue(Files.exists(getEventShard(directory, event).get()));
+        }
+        ReadOnlyAddressBook read = new ShardedAddressBookStorage(directory).readAddressBook().get();
+        assertEquals(original, read);
+        assertEquals(original.getEventList(), read.getEventList());
+        assertEquals(new XmlSerializableAddressBook(original), new XmlSerializableAddressBook(read));
+    }
+
+    @Test
+    public void saveAddressBook_changes_onlyChangedShardsRewritten() throws Exception {
+        Path directory = getTempFilePath("addressbook.shards");
+        AddressBook addressBook = getAddressBookWithEvents();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(addressBook);
+        addressBook.takeChanges();
+        makeShardsOld(directory);
+
+        Event meeting = addressBook.getEventList().get(0);
+        Event dinner = addressBook.getEventList().get(1);
+        Event lunch = addressBook.getEventList().get(2);
+        Path personsShard = getPersonsShard(directory);
+        Path meetingShard = getEventShard(directory, meeting).get();
+        Path dinnerShard = getEventShard(directory, dinner).get();
+        Path lunchShard = getEventShard(directory, lunch).get();
+        meeting.addOptionToPoll(Index.fromZeroBased(0), "Tuesday");
+        addressBook.updateEvent(meeting, meeting);
+        addressBook.removeEvent(dinner);
+        storage.saveAddressBook(addressBook, addressBook.takeChanges());
+
+        assertEquals(personsShard, getPersonsShard(directory));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(personsShard));
+        assertEquals(lunchShard, getEventShard(directory, lunch).get());
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(lunchShard));
+        assertNotEquals(meetingShard, getEventShard(directory, meeting).get());
+        assertFalse(Files.exists(meetingShard));
+        assertFalse(getEventShard(directory, dinner).isPresent());
+        assertFalse(Files.exists(dinnerShard));
+        assertEquals(new XmlSerializableAddressBook(addressBook), read(new ShardedAddressBookStorage(directory)));
+    }
+
+    @Test
+    public void saveAddressBook_notReadBefore_allShardsRewritten() throws Exception {
+        Path directory = getTempFilePath("addressbook.shards");
+        new ShardedAddressBookStorage(directory).saveAddressBook(getAddressBookWithEvents());
+        makeShardsOld(directory);
+
+        // the shards may not hold the address book the changes are relative to
+        AddressBook addressBook = getTypicalAddressBook();
+        new ShardedAddressBookStorage(directory).saveAddressBook(addressBook, AddressBookChanges.NONE);
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(getPersonsShard(directory)));
+        try (Stream<Path> eventShards = Files.list(directory.resolve(ShardedAddressBookStorage.EVENTS_DIRECTORY))) {
+            assertEquals(0, eventShards.count());
+        }
+        assertEquals(new XmlSerializableAddressBook(addressBook), read(new ShardedAddressBookStorage(directory)));
+    }
+
+    @Test
+    public void readAddressBook_shardsOfFailedSave_ignoredAndDeletedOnRewrite() throws Exception {
+        Path directory = getTempFilePath("addressbook.shards");
+        AddressBook addressBook = getAddressBookWithEvents();
+        new ShardedAddressBookStorage(directory).saveAddressBook(addressBook);
+
+        // a save that wrote its shards but failed before replacing the manifest
+        Path failedPersonsShard = directory.resolve(ShardedAddressBookStorage.PERSONS_SHARD + ".99.xml");
+        Path failedEventShard = directory.resolve(ShardedAddressBookStorage.EVENTS_DIRECTORY).resolve("99.99.xml");
+        Files.copy(getPersonsShard(directory), failedPersonsShard);
+        Files.copy(getEventShard(directory, addressBook.getEventList().get(0)).get(), failedEventShard);
+        Files.write(getPersonsShard(directory).resolveSibling("persons.xml"), "not xml".getBytes());
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        assertEquals(new XmlSerializableAddressBook(addressBook), read(storage));
+
+        storage.saveAddressBook(addressBook, AddressBookChanges.ALL);
+        assertFalse(Files.exists(failedPersonsShard));
+        assertFalse(Files.exists(failedEventShard));
+        assertFalse(Files.exists(directory.resolve("persons.xml")));
+        assertEquals(new XmlSerializableAddressBook(addressBook), read(new ShardedAddressBookStorage(directory)));
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_throwsDataConversionException() throws Exception {
+        Path directory = getTempFilePath("addressbook.shards");
+        new ShardedAddressBookStorage(directory).saveAddressBook(getAddressBookWithEvents());
+        Files.write(directory.resolve(ShardedAddressBookStorage.MANIFEST), "1\n../addressbook.xml\n".getBytes());
+
+        assertThrows(DataConversionException.class, () ->
+                new ShardedAddressBookStorage(directory).readAddressBook());
+    }
+
+    @Test
+    public void convertToPrimaryFormat_newerFormatConverted() throws Exception {
+        Path xmlFile = getTempFilePath("addressbook.xml");
+        Path directory = ShardedAddressBookStorage.getShardDirectory(xmlFile);
+        assertEquals(getTempFilePath("addressbook.shards"), directory);
+
+        // nothing to convert
+        assertFalse(ShardedAddressBookStorage.convertToPrimaryFormat(xmlFile, true));
+
+        // only the xml file exists
+        new XmlAddressBookStorage(xmlFile).saveAddressBook(getTypicalAddressBook());
+        assertTrue(ShardedAddressBookStorage.convertToPrimaryFormat(xmlFile, true));
+        assertEquals(getTypicalAddressBook(), new ShardedAddressBookStorage(directory).readAddressBook().get());
+        assertFalse(ShardedAddressBookStorage.convertToPrimaryFormat(xmlFile, true));
+
+        // the shards were saved later than the xml file
+        AddressBook edited = getAddressBookWithEvents();
+        new ShardedAddressBookStorage(directory).saveAddressBook(edited);
+        Files.setLastModifiedTime(xmlFile, OLD_TIME);
+        assertTrue(ShardedAddressBookStorage.convertToPrimaryFormat(xmlFile, false));
+        assertEquals(new XmlSerializableAddressBook(edited),
+                XmlStreamFileStorage.loadSerializableDataFromSaveFile(xmlFile));
+    }
+}
@@ -3,11 +3,16 @@ package seedu.address.storage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -17,6 +22,7 @@ import org.junit.rules.TemporaryFolder;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.ui.testutil.EventsCollectorRule;
@@ -75,14 +81,70 @@ public class StorageManagerTest {
     }
 
     @Test
-    public void handleAddressBookChangedEvent_exceptionThrown_eventRaised() {
+    public void handleAddressBookChangedEvent_exceptionThrown_eventRaised() throws Exception {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
         Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")),
                                              new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flushAddressBook();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    //@@author adjscent
+    @Test
+    public void flushAddressBook_previousSaveFailed_savedAgain() throws Exception {
+        XmlAddressBookStorageFailingOnceStub addressBookStorage = new XmlAddressBookStorageFailingOnceStub(
+                getTempFilePath("ab"));
+        Storage storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                TimeUnit.MINUTES.toMillis(1));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        storage.flushAddressBook();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+
+        storage.flushAddressBook();
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_burstOfChanges_latestSavedOnce() throws Exception {
+        XmlAddressBookStorageCountingStub addressBookStorage = new XmlAddressBookStorageCountingStub(
+                getTempFilePath("ab"));
+        Storage storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                TimeUnit.MINUTES.toMillis(1));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        addressBook.addPerson(HOON);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        addressBook.addPerson(IDA);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        assertEquals(0, addressBookStorage.saveCount.get());
+
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount.get());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+
+        // a change event that changed nothing is not saved
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook, AddressBookChanges.NONE));
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount.get());
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_afterSaveDelay_savedInBackground() throws Exception {
+        XmlAddressBookStorageCountingStub addressBookStorage = new XmlAddressBookStorageCountingStub(
+                getTempFilePath("ab"));
+        Storage storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                0);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+
+        assertTrue(addressBookStorage.saved.await(10, TimeUnit.SECONDS));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    //@@author
+
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -99,5 +161,47 @@ public class StorageManagerTest {
         }
     }
 
+    //@@author adjscent
+    /**
+     * A Stub class to count the saves
+     */
+    class XmlAddressBookStorageCountingStub extends XmlAddressBookStorage {
+
+        private final AtomicInteger saveCount = new AtomicInteger();
+        private final CountDownLatch saved = new CountDownLatch(1);
+
+        public XmlAddressBookStorageCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            super.saveAddressBook(addressBook, filePath);
+            saveCount.incrementAndGet();
+            saved.countDown();
+        }
+    }
+
+    /**
+     * A Stub class to throw an exception when the first save is made
+     */
+    class XmlAddressBookStorageFailingOnceStub extends XmlAddressBookStorage {
+
+        private boolean hasFailed;
+
+        public XmlAddressBookStorageFailingOnceStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (!hasFailed) {
+                hasFailed = true;
+                throw new IOException("dummy exception");
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
 
 }
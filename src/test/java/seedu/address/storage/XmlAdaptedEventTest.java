@@ -43,17 +43,19 @@ public class XmlAdaptedEventTest {
             .map(XmlAdaptedPoll::new)
             .collect(Collectors.toList());
 
+    private XmlPersonReferences references;
+
     @Before
     public void initialise() {
         ObservableList<Person> personList = TypicalPersons.getTypicalAddressBook().getPersonList();
-        XmlAdaptedEvent.setPersonList(personList);
+        references = new XmlPersonReferences(personList);
     }
 
     @Test
     public void toModelType_validEventDetails_returnsEvent() throws Exception {
         Event event = MEETING_BUILDER.withOrganiser(ALICE).build();
-        XmlAdaptedEvent xmlEvent = new XmlAdaptedEvent(event);
-        assertEquals(event, xmlEvent.toModelType());
+        XmlAdaptedEvent xmlEvent = new XmlAdaptedEvent(event, references);
+        assertEquals(event, xmlEvent.toModelType(references));
     }
 
     @Test
@@ -61,7 +63,7 @@ public class XmlAdaptedEventTest {
         XmlAdaptedEvent event = new XmlAdaptedEvent(null, VALID_ADDRESS, VALID_ORGANISER, VALID_DATE,
                 VALID_START_TIME, VALID_END_TIME, VALID_TAGS, VALID_POLL_LIST, VALID_PERSON_LIST);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, EventName.class.getSimpleName());
-        Assert.assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(references));
     }
 
     @Test
@@ -69,7 +71,7 @@ public class XmlAdaptedEventTest {
         XmlAdaptedEvent event = new XmlAdaptedEvent(VALID_NAME, INVALID_ADDRESS, VALID_ORGANISER, VALID_DATE,
                 VALID_START_TIME, VALID_END_TIME, VALID_TAGS, VALID_POLL_LIST, VALID_PERSON_LIST);
         String expectedMessage = Address.MESSAGE_ADDRESS_CONSTRAINTS;
-        Assert.assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(references));
     }
 
     @Test
@@ -77,7 +79,7 @@ public class XmlAdaptedEventTest {
         XmlAdaptedEvent event = new XmlAdaptedEvent(VALID_NAME, null, VALID_ORGANISER, VALID_DATE,
                 VALID_START_TIME, VALID_END_TIME, VALID_TAGS, VALID_POLL_LIST, VALID_PERSON_LIST);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
-        Assert.assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(references));
     }
 
     @Test
@@ -86,6 +88,6 @@ public class XmlAdaptedEventTest {
         invalidTags.add(new XmlAdaptedTag(INVALID_TAG));
         XmlAdaptedEvent event = new XmlAdaptedEvent(VALID_NAME, VALID_ADDRESS, VALID_ORGANISER, VALID_DATE,
                 VALID_START_TIME, VALID_END_TIME, invalidTags, VALID_POLL_LIST, VALID_PERSON_LIST);
-        Assert.assertThrows(IllegalValueException.class, event::toModelType);
+        Assert.assertThrows(IllegalValueException.class, () -> event.toModelType(references));
     }
 }
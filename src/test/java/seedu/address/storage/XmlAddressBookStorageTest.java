@@ -2,14 +2,19 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,6 +24,9 @@ import org.junit.rules.TemporaryFolder;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Friend;
+import seedu.address.model.person.Person;
 
 public class XmlAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlAddressBookStorageTest");
@@ -99,6 +107,49 @@ public class XmlAddressBookStorageTest {
 
     }
 
+    //@@author adjscent
+    @Test
+    public void readAddressBook_fileWithoutPersonIds_migratedOnSave() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("legacy.xml");
+        Files.copy(TEST_DATA_FOLDER.resolve("legacyPersonIndexAddressBook.xml"), filePath);
+        XmlAddressBookStorage storage = new XmlAddressBookStorage(filePath);
+
+        ReadOnlyAddressBook legacy = storage.readAddressBook().get();
+        Person alice = legacy.getPersonList().get(0);
+        Person benson = legacy.getPersonList().get(1);
+        Event meeting = legacy.getEventList().get(0);
+        assertEquals(benson, meeting.getOrganiser());
+        assertEquals(Arrays.asList(benson, alice), meeting.getParticipantList().asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(alice),
+                meeting.getPolls().get(0).getPollData().get("Library").asUnmodifiableObservableList());
+        assertEquals(Collections.singleton(new Friend(alice)), benson.getFriends());
+
+        // reading leaves the file as it was, and the next save refers to persons by id
+        assertTrue(XmlStreamFileStorage.loadSerializableDataFromSaveFile(filePath).getPersons().stream()
+                .allMatch(person -> person.getId() == null));
+        storage.saveAddressBook(legacy);
+        assertTrue(XmlStreamFileStorage.loadSerializableDataFromSaveFile(filePath).getPersons().stream()
+                .allMatch(person -> person.getId() != null));
+        ReadOnlyAddressBook migrated = storage.readAddressBook().get();
+        assertEquals(legacy.getPersonList(), migrated.getPersonList());
+        assertEquals(legacy.getEventList(), migrated.getEventList());
+    }
+
+    @Test
+    public void readAddressBook_savedFile_personIdsKept() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ids.xml");
+        AddressBook original = getTypicalAddressBook();
+        original.removePerson(ALICE);
+        XmlAddressBookStorage storage = new XmlAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        List<Person> readBack = storage.readAddressBook().get().getPersonList();
+        for (int i = 0; i < readBack.size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), readBack.get(i).getId());
+        }
+    }
+
+    //@@author
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -1,9 +1,11 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -12,6 +14,9 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Slot;
 import seedu.address.testutil.TypicalPersons;
 
 public class XmlSerializableAddressBookTest {
@@ -20,6 +25,7 @@ public class XmlSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.xml");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.xml");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.xml");
+    private static final Path SCHEDULE_FORMATS_FILE = TEST_DATA_FOLDER.resolve("scheduleFormatsAddressBook.xml");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -50,4 +56,14 @@ public class XmlSerializableAddressBookTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_legacyAndCompactSchedules_readAlike() throws Exception {
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(SCHEDULE_FORMATS_FILE,
+                XmlSerializableAddressBook.class);
+        List<Person> persons = dataFromFile.toModelType().getPersonList();
+        Schedule legacySchedule = persons.get(0).getSchedule();
+        assertEquals(legacySchedule, persons.get(1).getSchedule());
+        assertEquals(3, legacySchedule.countOccupiedSlots());
+        assertTrue(legacySchedule.getTimeDay(new Slot("tuesday", "0830")));
+    }
 }
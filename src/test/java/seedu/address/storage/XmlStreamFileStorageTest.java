@@ -0,0 +1,98 @@
+//@@author adjscent
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Friend;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class XmlStreamFileStorageTest {
+
+    private static final Path SERIALIZABLE_DATA_FOLDER = Paths.get("src", "test", "data",
+            "XmlSerializableAddressBookTest");
+    private static final Path STORAGE_DATA_FOLDER = Paths.get("src", "test", "data", "XmlAddressBookStorageTest");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private static AddressBook getAddressBookWithEvents() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder(HOON).withAddress("Block 1 & 2 <Lobby>")
+                .withFriends(new Friend(ALICE).friendAttributes, "Someone Else|password").build());
+        Event meeting = new EventBuilder().withName("Meeting").withOrganiser(ALICE).withPoll().build();
+        meeting.addParticipant(BENSON);
+        meeting.addOptionToPoll(Index.fromZeroBased(0), "Monday");
+        meeting.addOptionToPoll(Index.fromZeroBased(0), "Tuesday");
+        meeting.addVoteToPoll(Index.fromZeroBased(0), BENSON, "Monday");
+        addressBook.addEvent(meeting);
+        addressBook.addEvent(new EventBuilder().withName("Dinner").withAddress("Arts Canteen").build());
+        return addressBook;
+    }
+
+    private Path createFile(String fileName) throws Exception {
+        return Files.createFile(testFolder.getRoot().toPath().resolve(fileName));
+    }
+
+    @Test
+    public void saveDataToFile_sameXmlAsJaxb() throws Exception {
+        for (AddressBook addressBook : new AddressBook[] {new AddressBook(), getAddressBookWithEvents()}) {
+            Path jaxbFile = createFile("jaxb" + addressBook.getPersonList().size() + ".xml");
+            Path streamFile = createFile("stream" + addressBook.getPersonList().size() + ".xml");
+            XmlFileStorage.saveDataToFile(jaxbFile, new XmlSerializableAddressBook(addressBook));
+            XmlStreamFileStorage.saveDataToFile(streamFile, addressBook);
+            assertArrayEquals(Files.readAllBytes(jaxbFile), Files.readAllBytes(streamFile));
+        }
+    }
+
+    @Test
+    public void loadDataFromSaveFile_jaxbFile_sameAsJaxb() throws Exception {
+        AddressBook original = getAddressBookWithEvents();
+        Path file = createFile("jaxb.xml");
+        XmlFileStorage.saveDataToFile(file, new XmlSerializableAddressBook(original));
+
+        AddressBook jaxbRead = XmlFileStorage.loadDataFromSaveFile(file).toModelType();
+        AddressBook streamRead = XmlStreamFileStorage.loadDataFromSaveFile(file);
+        assertEquals(jaxbRead, streamRead);
+        assertEquals(jaxbRead.getEventList(), streamRead.getEventList());
+        assertEquals(XmlFileStorage.loadDataFromSaveFile(file),
+                XmlStreamFileStorage.loadSerializableDataFromSaveFile(file));
+    }
+
+    @Test
+    public void loadDataFromSaveFile_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBook = XmlStreamFileStorage.loadDataFromSaveFile(
+                SERIALIZABLE_DATA_FOLDER.resolve("typicalPersonsAddressBook.xml"));
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void loadDataFromSaveFile_invalidFiles_sameErrorsAsJaxb() {
+        assertThrows(IllegalValueException.class, () -> XmlStreamFileStorage.loadDataFromSaveFile(
+                SERIALIZABLE_DATA_FOLDER.resolve("invalidPersonAddressBook.xml")));
+        assertThrows(IllegalValueException.class, XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                XmlStreamFileStorage.loadDataFromSaveFile(
+                        SERIALIZABLE_DATA_FOLDER.resolve("duplicatePersonAddressBook.xml")));
+        assertThrows(DataConversionException.class, () -> XmlStreamFileStorage.loadDataFromSaveFile(
+                STORAGE_DATA_FOLDER.resolve("NotXmlFormatAddressBook.xml")));
+    }
+}
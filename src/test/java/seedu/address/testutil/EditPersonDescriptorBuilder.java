@@ -122,7 +122,7 @@ public class EditPersonDescriptorBuilder {
                                                           String validScheduleUpdateTime) throws ParseException {
         Schedule updateSchedule = new Schedule();
         Slot slot = new Slot(validScheduleUpdateDay, validScheduleUpdateTime);
-        updateSchedule.setTimeDay(slot, true);
+        updateSchedule = updateSchedule.setTimeDay(slot, true);
         descriptor.setUpdateSchedule(updateSchedule);
         return this;
     }
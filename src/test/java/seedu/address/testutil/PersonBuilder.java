@@ -172,8 +172,8 @@ public class PersonBuilder {
     public PersonBuilder withUpdateSchedule(String updateDay, String updateTime) throws ParseException {
         Schedule updateSchedule = new Schedule();
         Slot slot = new Slot(updateDay, updateTime);
-        updateSchedule.setTimeDay(slot, true);
-        this.schedule.xor(updateSchedule);
+        updateSchedule = updateSchedule.setTimeDay(slot, true);
+        this.schedule = this.schedule.xor(updateSchedule);
         return this;
     }
 }